@@ -0,0 +1,131 @@
+package org.sportradar.scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.sportradar.scoreboard.benchmarks.baseline.BaselineScoreBoardDAO;
+import org.sportradar.scoreboard.benchmarks.baseline.BaselineScoreBoardService;
+import org.sportradar.scoreboard.entities.Match;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The operations of {@link ScoreBoardServiceBenchmark} on the original list based service and DAO, as the baseline
+ * of the store comparison. The original is not thread safe, so every operation holds the lock of the board, which
+ * is how it would have to be shared between threads. The board is filled by appending to its list directly, since
+ * saving every match through the DAO would scan the list each time.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BaselineScoreBoardBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Board {
+
+        @Param({"10", "1000", "100000", "1000000"})
+        int boardSize;
+
+        BaselineScoreBoardDAO scoreBoardDAO;
+        BaselineScoreBoardService service;
+        int[] matchIds;
+
+        @Setup(Level.Trial)
+        public void fill() {
+            List<Match> scoreBoard = new ArrayList<>(boardSize);
+            matchIds = new int[boardSize];
+            for (int i = 0; i < boardSize; i++) {
+                Match match = Match.getNewMatch("Home" + i, "Away" + i);
+                matchIds[i] = match.id();
+                scoreBoard.add(match);
+            }
+            scoreBoardDAO = new BaselineScoreBoardDAO(scoreBoard);
+            service = new BaselineScoreBoardService(scoreBoardDAO);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Mix {
+
+        @Param({"0.5", "0.9", "0.99"})
+        double readRatio;
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+
+        SplittableRandom random;
+        int thread;
+        long sequence;
+
+        @Setup(Level.Trial)
+        public void init(ThreadParams threadParams) {
+            thread = threadParams.getThreadIndex();
+            random = new SplittableRandom(42 + thread);
+        }
+
+        int pickMatch(Board board) {
+            return board.matchIds[random.nextInt(board.matchIds.length)];
+        }
+    }
+
+    @Benchmark
+    public void startAndFinishMatch(Board board, Worker worker) {
+        long sequence = worker.sequence++;
+        String suffix = worker.thread + "-" + sequence;
+        synchronized (board) {
+            Integer id = board.service.startNewMatch("New" + suffix, "Guest" + suffix);
+            board.service.finishMatch(id);
+        }
+    }
+
+    @Benchmark
+    public void updateScore(Board board, Worker worker) {
+        update(board, worker);
+    }
+
+    @Benchmark
+    public List<Match> getSummary(Board board) {
+        synchronized (board) {
+            return board.service.getSummary();
+        }
+    }
+
+    @Benchmark
+    public void readWriteMix(Board board, Mix mix, Worker worker, Blackhole blackhole) {
+        if (worker.random.nextDouble() < mix.readRatio) {
+            synchronized (board) {
+                blackhole.consume(board.service.getSummary());
+            }
+        } else {
+            update(board, worker);
+        }
+    }
+
+    private static void update(Board board, Worker worker) {
+        int id = worker.pickMatch(board);
+        synchronized (board) {
+            int goals = board.scoreBoardDAO.findById(id).map(Match::getHomeTeamScore).orElse(0) + 1;
+            board.service.updateScore(id, goals, 0);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.sportradar.scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of every {@link ScoreBoardService} operation by board size, store and read/write ratio. The original
+ * list based service is measured with the same operations by {@link BaselineScoreBoardBenchmark}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark verify}; the thread count is set with {@code -Djmh.args="-t 8"} and the results
+ * are written to {@code target/jmh-result.json}.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreBoardServiceBenchmark {
+
+    /**
+     * The stores a board can run on.
+     */
+    public enum Store {
+        INDEXED {
+            @Override
+            ScoreBoardDAO create() {
+                return new ScoreBoardDAO();
+            }
+        },
+        SNAPSHOT {
+            @Override
+            ScoreBoardDAO create() {
+                return ScoreBoardDAO.withSnapshots();
+            }
+        };
+
+        abstract ScoreBoardDAO create();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Board {
+
+        @Param({"10", "1000", "100000", "1000000"})
+        int boardSize;
+
+        @Param({"INDEXED", "SNAPSHOT"})
+        Store store;
+
+        ScoreBoardDAO scoreBoardDAO;
+        ScoreBoardService service;
+        int[] matchIds;
+
+        @Setup(Level.Trial)
+        public void fill() {
+            scoreBoardDAO = store.create();
+            List<Match> matches = new ArrayList<>(boardSize);
+            matchIds = new int[boardSize];
+            for (int i = 0; i < boardSize; i++) {
+                matchIds[i] = scoreBoardDAO.nextMatchId();
+                matches.add(Match.getNewMatch(matchIds[i], "Home" + i, "Away" + i));
+            }
+            scoreBoardDAO.restoreAll(matches, 0);
+            service = new ScoreBoardService(scoreBoardDAO);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Mix {
+
+        @Param({"0.5", "0.9", "0.99"})
+        double readRatio;
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+
+        SplittableRandom random;
+        int thread;
+        long sequence;
+
+        @Setup(Level.Trial)
+        public void init(ThreadParams threadParams) {
+            thread = threadParams.getThreadIndex();
+            random = new SplittableRandom(42 + thread);
+        }
+
+        int pickMatch(Board board) {
+            return board.matchIds[random.nextInt(board.matchIds.length)];
+        }
+    }
+
+    @Benchmark
+    public void startAndFinishMatch(Board board, Worker worker) {
+        long sequence = worker.sequence++;
+        String suffix = worker.thread + "-" + sequence;
+        Integer id = board.service.startNewMatch("New" + suffix, "Guest" + suffix);
+        board.service.finishMatch(id);
+    }
+
+    @Benchmark
+    public void updateScore(Board board, Worker worker, Blackhole blackhole) {
+        update(board, worker, blackhole);
+    }
+
+    @Benchmark
+    public List<Match> getSummary(Board board) {
+        return board.service.getSummary();
+    }
+
+    @Benchmark
+    public void readWriteMix(Board board, Mix mix, Worker worker, Blackhole blackhole) {
+        if (worker.random.nextDouble() < mix.readRatio) {
+            blackhole.consume(board.service.getSummary());
+        } else {
+            update(board, worker, blackhole);
+        }
+    }
+
+    private static void update(Board board, Worker worker, Blackhole blackhole) {
+        int id = worker.pickMatch(board);
+        try {
+            int goals = board.scoreBoardDAO.findById(id).map(Match::getHomeTeamScore).orElse(0) + 1;
+            board.service.updateScore(id, goals, 0);
+        } catch (IllegalArgumentException e) {
+            // another thread already set a higher score on the same match
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.sportradar.scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.serialization.SummarySerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing the summary of a board with the {@link SummarySerializer}. Run with {@code -Djmh.args="-prof gc"}
+ * to see the allocation rate per operation.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SummarySerializerBenchmark {
+
+    @Param({"100", "10000"})
+    int boardSize;
+
+    SummarySerializer serializer;
+    ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        ScoreBoardDAO scoreBoardDAO = ScoreBoardDAO.withSnapshots();
+        List<Match> matches = new ArrayList<>(boardSize);
+        for (int i = 0; i < boardSize; i++) {
+            Match match = Match.getNewMatch(scoreBoardDAO.nextMatchId(), "Home" + i, "Away" + i);
+            matches.add(Match.getNewMatch(match, i % 5, i % 3));
+        }
+        scoreBoardDAO.restoreAll(matches, 0);
+        serializer = new SummarySerializer(scoreBoardDAO);
+        buffer = ByteBuffer.allocateDirect(128 * boardSize);
+    }
+
+    @Benchmark
+    public ByteBuffer writeJsonToBuffer() {
+        serializer.writeJson(buffer.clear());
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer writeBinaryToBuffer() {
+        serializer.writeBinary(buffer.clear());
+        return buffer;
+    }
+
+    @Benchmark
+    public void writeJsonToStream() throws IOException {
+        serializer.writeJson(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,54 @@
+package org.sportradar.scoreboard.benchmarks.baseline;
+
+import org.sportradar.scoreboard.entities.Match;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The original list based DAO, kept unchanged as the baseline the indexed store is measured against: every lookup
+ * scans the list and the summary sorts it on every call. It is not thread safe.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class BaselineScoreBoardDAO {
+
+    private final List<Match> scoreBoard;
+
+    public BaselineScoreBoardDAO(List<Match> scoreBoard) {
+        this.scoreBoard = scoreBoard;
+    }
+
+    public void save(Match match) {
+        int index = scoreBoard.indexOf(match);
+        if (index >= 0) {
+            scoreBoard.set(index, match);
+        } else {
+            scoreBoard.add(match);
+        }
+    }
+
+    public void delete(Match match) {
+        scoreBoard.remove(match);
+    }
+
+    public Optional<Match> findById(Integer matchId) {
+        return scoreBoard.stream().filter(m -> m.getId().equals(matchId)).findFirst();
+    }
+
+    public Optional<Match> findByMatch(Match match) {
+        return scoreBoard.stream().filter(m -> m.equals(match)).findFirst();
+    }
+
+    public List<Match> findByAll() {
+        return scoreBoard.stream().sorted(Comparator.reverseOrder()).toList();
+    }
+
+    public Optional<Match> findByTeam(String name) {
+        return scoreBoard.stream()
+                .filter(m -> m.getHomeTeam().getName().equalsIgnoreCase(name)
+                             || m.getAwayTeam().getName().equalsIgnoreCase(name)).findFirst();
+    }
+}
@@ -0,0 +1,102 @@
+package org.sportradar.scoreboard.benchmarks.baseline;
+
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.exceptions.DuplicateMatchException;
+import org.sportradar.scoreboard.exceptions.MatchNotFoundException;
+import org.sportradar.scoreboard.exceptions.NotAllowedException;
+
+import java.util.List;
+
+/**
+ * The original service on top of {@link BaselineScoreBoardDAO}, kept unchanged as the baseline of the benchmarks.
+ * It is not thread safe.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class BaselineScoreBoardService {
+
+    private final BaselineScoreBoardDAO scoreBoardDAO;
+
+    public BaselineScoreBoardService(BaselineScoreBoardDAO scoreBoardDAO) {
+        this.scoreBoardDAO = scoreBoardDAO;
+    }
+
+    public List<Match> getSummary() {
+        return scoreBoardDAO.findByAll();
+    }
+
+    public Integer startNewMatch(String homeTeamName, String awayTeamName) {
+        validateTeamName(homeTeamName);
+        validateTeamName(awayTeamName);
+        validateDifferentTeamNames(homeTeamName, awayTeamName);
+        Match newMatch = Match.getNewMatch(homeTeamName, awayTeamName);
+        validateNoDuplicate(newMatch);
+        scoreBoardDAO.save(newMatch);
+        return newMatch.getId();
+    }
+
+    public void updateScore(Integer matchId, int homeTeamScore, int awayTeamScore) {
+        if (matchId == null || matchId < 0) {
+            throw new IllegalArgumentException("Match Id should be a valid positive number.");
+        }
+        Match match = findMatch(matchId);
+        if (homeTeamScore < match.getHomeTeam().getScore() || awayTeamScore < match.getAwayTeam().getScore()) {
+            throw new IllegalArgumentException("Team Scores can not be lower that previous scores.");
+        }
+        if (homeTeamScore + awayTeamScore == match.getHomeTeam().getScore() + match.getAwayTeam().getScore()) {
+            throw new IllegalArgumentException("Team Scores can not be similar to previous scores.");
+        }
+        Match updatedMath = Match.getNewMatch(match, homeTeamScore, awayTeamScore);
+        scoreBoardDAO.save(updatedMath);
+    }
+
+    public void finishMatch(Integer matchId) {
+        if (matchId == null || matchId <= 0) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+        Match match = findMatch(matchId);
+        scoreBoardDAO.delete(match);
+    }
+
+    private static void validateDifferentTeamNames(String homeTeamName, String awayTeamName) {
+        if (homeTeamName.equalsIgnoreCase(awayTeamName)) {
+            throw new IllegalArgumentException("Team Name should not be similar.");
+        }
+    }
+
+    private static void validateTeamName(String teamName) {
+        if (teamName == null || teamName.isBlank()) {
+            throw new IllegalArgumentException("Team Name should not be null or empty.");
+        }
+    }
+
+    private void validateNoDuplicate(Match match) {
+        scoreBoardDAO.findByMatch(match).ifPresent(m ->
+        {
+            throw new DuplicateMatchException(match.getHomeTeam().getName(), match.getAwayTeam().getName());
+        });
+        scoreBoardDAO.findByMatch(getReverseMatch(match)).ifPresent(match1 -> {
+            throw new DuplicateMatchException(match.getAwayTeam().getName(), match.getHomeTeam().getName());
+        });
+
+        scoreBoardDAO.findByTeam(match.getHomeTeam().getName())
+                .ifPresent(m -> {
+                    throw new NotAllowedException("Adding new match", match.getHomeTeam().getName() + " is already playing with another team");
+                });
+        scoreBoardDAO.findByTeam(match.getAwayTeam().getName())
+                .ifPresent(m -> {
+                    throw new NotAllowedException("Adding new match", match.getHomeTeam().getName() + " is already playing with another team");
+                });
+    }
+
+    private static Match getReverseMatch(Match match) {
+        return Match.getNewMatch(match.getAwayTeam().getName(), match.getHomeTeam().getName());
+    }
+
+    private Match findMatch(Integer matchId) {
+        return scoreBoardDAO.findById(matchId)
+                .orElseThrow(() -> new MatchNotFoundException(matchId));
+    }
+
+}
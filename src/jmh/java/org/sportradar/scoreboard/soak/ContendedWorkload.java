@@ -0,0 +1,149 @@
+package org.sportradar.scoreboard.soak;
+
+import org.sportradar.scoreboard.services.CommandOutcome;
+import org.sportradar.scoreboard.services.RejectionReason;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The commands of one writer of a contended tournament, where all writers share the teams and the live matches.
+ * <p>
+ * Each {@link #playRound() round} a writer either kicks off a match between two random teams of the shared pool,
+ * scores a goal on a random live match, or finishes one, so writers race each other for the same teams and the
+ * same match ids. A writer scores from the last score any writer saw accepted, half of the time with that score
+ * as expected version, which goes stale as soon as another writer scores first. The choices of a writer only
+ * depend on its seed, but which commands win depends on the interleaving of the writers, so two runs with the
+ * same seed send the same commands but do not reach the same board. Rejections a race explains are counted per
+ * reason, any other rejection is reported to the {@link InvariantChecker}.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+final class ContendedWorkload {
+
+    private static final Set<RejectionReason> RACES = EnumSet.of(RejectionReason.DUPLICATE_MATCH,
+            RejectionReason.TEAM_ALREADY_PLAYING, RejectionReason.MATCH_NOT_FOUND, RejectionReason.SCORE_DECREASED,
+            RejectionReason.SCORE_UNCHANGED, RejectionReason.VERSION_CONFLICT);
+
+    private final ScoreBoardService service;
+    private final InvariantChecker checker;
+    private final SplittableRandom random;
+    private final Fixtures fixtures;
+
+    /**
+     * @param seed     seed of the commands of the writer.
+     * @param fixtures teams and live matches shared by all writers.
+     */
+    ContendedWorkload(ScoreBoardService service, InvariantChecker checker, long seed, Fixtures fixtures) {
+        this.service = service;
+        this.checker = checker;
+        this.random = new SplittableRandom(seed);
+        this.fixtures = fixtures;
+    }
+
+    /**
+     * Sends one command: a kick-off, a goal or a finish.
+     */
+    void playRound() {
+        int slot = random.nextInt(fixtures.matchIds.length());
+        int choice = random.nextInt(10);
+        if (choice < 2) {
+            kickOff(slot);
+        } else if (choice < 9) {
+            score(slot);
+        } else {
+            finish(slot);
+        }
+    }
+
+    private void kickOff(int slot) {
+        if (!fixtures.matchIds.compareAndSet(slot, Fixtures.FREE, Fixtures.CLAIMED)) {
+            return;
+        }
+        int home = random.nextInt(fixtures.teams.length);
+        int away = (home + 1 + random.nextInt(fixtures.teams.length - 1)) % fixtures.teams.length;
+        CommandOutcome<Integer> outcome = service.tryStartNewMatch(fixtures.teams[home], fixtures.teams[away]);
+        if (expect("startNewMatch", outcome)) {
+            fixtures.scores.set(slot, 0);
+            fixtures.matchIds.set(slot, ((CommandOutcome.Accepted<Integer>) outcome).value());
+        } else {
+            fixtures.matchIds.set(slot, Fixtures.FREE);
+        }
+    }
+
+    private void score(int slot) {
+        int matchId = fixtures.matchIds.get(slot);
+        if (matchId <= Fixtures.FREE) {
+            return;
+        }
+        long scores = fixtures.scores.get(slot);
+        int homeScore = (int) (scores >>> 32);
+        int awayScore = (int) scores;
+        int newHomeScore = random.nextBoolean() ? homeScore + 1 : homeScore;
+        int newAwayScore = newHomeScore == homeScore ? awayScore + 1 : awayScore;
+        // Every accepted update adds one goal, so a match is at the version of its total score.
+        CommandOutcome<Void> outcome = random.nextBoolean()
+                ? service.tryUpdateScore(matchId, homeScore + awayScore, newHomeScore, newAwayScore)
+                : service.tryUpdateScore(matchId, newHomeScore, newAwayScore);
+        if (expect("updateScore", outcome)) {
+            fixtures.scores.set(slot, (long) newHomeScore << 32 | newAwayScore);
+        }
+    }
+
+    private void finish(int slot) {
+        int matchId = fixtures.matchIds.get(slot);
+        if (matchId <= Fixtures.FREE) {
+            return;
+        }
+        expect("finishMatch", service.tryFinishMatch(matchId));
+        fixtures.matchIds.compareAndSet(slot, matchId, Fixtures.FREE);
+    }
+
+    private boolean expect(String command, CommandOutcome<?> outcome) {
+        if (outcome instanceof CommandOutcome.Rejected<?> rejected) {
+            if (RACES.contains(rejected.reason())) {
+                checker.raceRejection(rejected.reason());
+            } else {
+                checker.unexpectedRejection(command, outcome);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The teams and the live matches all writers of a contended tournament share. Each slot holds the id of a live
+     * match, or is free or claimed by a writer kicking off a match, along with the last score a writer saw
+     * accepted for it.
+     */
+    static final class Fixtures {
+
+        private static final int FREE = 0;
+        private static final int CLAIMED = -1;
+
+        private final String[] teams;
+        private final AtomicIntegerArray matchIds;
+        private final AtomicLongArray scores;
+
+        /**
+         * @param teams   number of teams of the pool, at least two.
+         * @param matches number of matches which may be live at the same time.
+         */
+        Fixtures(int teams, int matches) {
+            if (teams < 2 || matches < 1) {
+                throw new IllegalArgumentException("A contended tournament needs two teams and one match.");
+            }
+            this.teams = new String[teams];
+            for (int team = 0; team < teams; team++) {
+                this.teams[team] = "Team " + team;
+            }
+            this.matchIds = new AtomicIntegerArray(matches);
+            this.scores = new AtomicLongArray(matches);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.sportradar.scoreboard.soak;
+
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.Team;
+import org.sportradar.scoreboard.services.RejectionReason;
+import org.sportradar.scoreboard.services.ScoreBoardListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks the invariants of a board under load: scores never go down, a team never plays two live matches, listeners
+ * are told about the changes of a match in the order they were applied and the summary is always in order.
+ * <p>
+ * Registered as a listener it checks every accepted change, and {@link #checkSummary(List, TeamSet)} checks a
+ * summary a reader got. The first violations are kept with a description, all of them are counted. Rejections a
+ * race between writers explains are only counted, per reason.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+final class InvariantChecker implements ScoreBoardListener {
+
+    private static final int KEPT_VIOLATIONS = 20;
+
+    private final ConcurrentMap<String, Integer> liveTeams = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, Match> liveMatches = new ConcurrentHashMap<>();
+    private final Map<RejectionReason, LongAdder> raceRejections = new EnumMap<>(RejectionReason.class);
+    private final AtomicLong violations = new AtomicLong();
+    private final AtomicInteger keptViolations = new AtomicInteger();
+    private final Queue<String> descriptions = new ConcurrentLinkedQueue<>();
+
+    InvariantChecker() {
+        for (RejectionReason reason : RejectionReason.values()) {
+            raceRejections.put(reason, new LongAdder());
+        }
+    }
+
+    @Override
+    public void onMatchStarted(Match match) {
+        if (liveMatches.putIfAbsent(match.id(), match) != null) {
+            violation("match " + match.id() + " started twice");
+        }
+        claim(match.getHomeTeam(), match);
+        claim(match.getAwayTeam(), match);
+    }
+
+    @Override
+    public void onScoreUpdated(Match previous, Match updated) {
+        if (updated.getHomeTeamScore() < previous.getHomeTeamScore()
+                || updated.getAwayTeamScore() < previous.getAwayTeamScore()) {
+            violation("score of match " + updated.id() + " went down from " + previous.getHomeTeamScore()
+                    + "-" + previous.getAwayTeamScore() + " to " + updated.getHomeTeamScore() + "-"
+                    + updated.getAwayTeamScore());
+        }
+        if (updated.getVersion() <= previous.getVersion()) {
+            violation("version of match " + updated.id() + " did not grow");
+        }
+        Match last = liveMatches.replace(updated.id(), updated);
+        if (last == null) {
+            violation("score of match " + updated.id() + " updated while it was not live");
+        } else if (last.getVersion() != previous.getVersion()
+                || last.getHomeTeamScore() != previous.getHomeTeamScore()
+                || last.getAwayTeamScore() != previous.getAwayTeamScore()) {
+            violation("listeners told about version " + updated.getVersion() + " of match " + updated.id()
+                    + " after version " + last.getVersion() + " but it was applied to version "
+                    + previous.getVersion());
+        }
+    }
+
+    @Override
+    public void onMatchFinished(Match match) {
+        if (liveMatches.remove(match.id()) == null) {
+            violation("match " + match.id() + " finished while it was not live");
+        }
+        liveTeams.remove(match.getHomeTeam().getCanonicalName(), match.id());
+        liveTeams.remove(match.getAwayTeam().getCanonicalName(), match.id());
+    }
+
+    /**
+     * Checks that a summary is ordered by total score, then most recently started first, and that no team is in
+     * two of its matches.
+     *
+     * @param teams set of the reader, cleared and reused for every summary it checks.
+     */
+    void checkSummary(List<Match> summary, TeamSet teams) {
+        teams.clear();
+        Match previous = null;
+        for (Match match : summary) {
+            if (previous != null && (previous.getTotalScore() < match.getTotalScore()
+                    || previous.getTotalScore() == match.getTotalScore() && previous.id() < match.id())) {
+                violation("summary has match " + previous.id() + " before match " + match.id());
+            }
+            if (!teams.add(match.getHomeTeam().getCanonicalName())
+                    || !teams.add(match.getAwayTeam().getCanonicalName())) {
+                violation("summary has a team of match " + match.id() + " in two matches");
+            }
+            previous = match;
+        }
+    }
+
+    /**
+     * Reports a command rejected although the workload only sends valid commands.
+     */
+    void unexpectedRejection(String command, Object outcome) {
+        violation(command + " was rejected: " + outcome);
+    }
+
+    /**
+     * Counts a command rejected because another writer got to its teams or match first.
+     */
+    void raceRejection(RejectionReason reason) {
+        raceRejections.get(reason).increment();
+    }
+
+    /**
+     * @return number of rejections a race explains, for every reason with any.
+     */
+    Map<RejectionReason, Long> getRaceRejections() {
+        Map<RejectionReason, Long> counts = new EnumMap<>(RejectionReason.class);
+        raceRejections.forEach((reason, count) -> {
+            if (count.sum() > 0) {
+                counts.put(reason, count.sum());
+            }
+        });
+        return counts;
+    }
+
+    long getViolations() {
+        return violations.get();
+    }
+
+    List<String> getDescriptions() {
+        return new ArrayList<>(descriptions);
+    }
+
+    private void claim(Team team, Match match) {
+        Integer other = liveTeams.putIfAbsent(team.getCanonicalName(), match.id());
+        if (other != null) {
+            violation(team.getName() + " plays in match " + match.id() + " and in live match " + other);
+        }
+    }
+
+    private void violation(String description) {
+        violations.incrementAndGet();
+        if (keptViolations.getAndIncrement() < KEPT_VIOLATIONS) {
+            descriptions.add(description);
+        }
+    }
+
+    /**
+     * A set of canonical team names owned by one reader and reused for every summary it checks, so checking does
+     * not add to the allocation rate the soak test reports. Open addressing over a table which only grows.
+     */
+    static final class TeamSet {
+
+        private String[] table = new String[64];
+        private int size;
+
+        void clear() {
+            if (size > 0) {
+                Arrays.fill(table, null);
+                size = 0;
+            }
+        }
+
+        /**
+         * @return {@code false} if the set already held the name.
+         */
+        boolean add(String name) {
+            if (2 * (size + 1) > table.length) {
+                grow();
+            }
+            int mask = table.length - 1;
+            int hash = name.hashCode();
+            int index = (hash ^ hash >>> 16) & mask;
+            while (table[index] != null) {
+                if (table[index].equals(name)) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            table[index] = name;
+            size++;
+            return true;
+        }
+
+        private void grow() {
+            String[] names = table;
+            table = new String[names.length * 2];
+            size = 0;
+            for (String name : names) {
+                if (name != null) {
+                    add(name);
+                }
+            }
+        }
+    }
+}
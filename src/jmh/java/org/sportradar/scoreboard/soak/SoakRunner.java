@@ -0,0 +1,216 @@
+package org.sportradar.scoreboard.soak;
+
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.metrics.InMemoryMetricsRegistry;
+import org.sportradar.scoreboard.metrics.LatencyHistogram;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Soak test of a {@link ScoreBoardService} under a simulated tournament.
+ * <p>
+ * Writer threads play {@link TournamentWorkload}s seeded from the given seed, or with {@code --contended} race each
+ * other in a {@link ContendedWorkload}, while reader threads fetch the summary as fast as they can, for the given
+ * duration. Every report interval, and once at the end, it prints the
+ * throughput of every operation since the last report, the latency percentiles since the start, the allocation
+ * rate of the JVM and the number of {@link InvariantChecker invariant} violations, and at the end the rejections
+ * races between contended writers explain. It exits with status 1 if any
+ * invariant was violated.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.sportradar.scoreboard.soak.SoakRunner -Dexec.args="--duration=PT10M --writers=8"}.
+ * Options, with their defaults:
+ * <pre>
+ * --seed=42            seed of the workload
+ * --duration=PT1M      how long to run, as an ISO-8601 duration
+ * --report=PT10S       interval between reports
+ * --writers=4          writer threads
+ * --readers=4          reader threads
+ * --teams=512          teams per writer
+ * --goals=2.7          average goals of a match, ignored by contended writers
+ * --contended          writers share the teams and the live matches, a quarter as many as teams
+ * --store=snapshot     snapshot, indexed or list
+ * --virtual            run readers and writers on virtual threads, on Java 21 and later
+ * </pre>
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public final class SoakRunner {
+
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+    private static final String[] TIMERS = {"scoreboard.start", "scoreboard.update", "scoreboard.finish",
+            "scoreboard.summary"};
+
+    private final Map<String, String> options;
+    private final InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+    private final InvariantChecker checker = new InvariantChecker();
+    private final Map<String, Long> lastCounts = new HashMap<>();
+    private final AtomicLong reads = new AtomicLong();
+    private volatile boolean running = true;
+
+    private SoakRunner(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(separator < 0 ? arg.substring(2) : arg.substring(2, separator),
+                    separator < 0 ? "true" : arg.substring(separator + 1));
+        }
+        long violations = new SoakRunner(options).run();
+        System.exit(violations == 0 ? 0 : 1);
+    }
+
+    private long run() throws Exception {
+        long seed = Long.parseLong(option("seed", "42"));
+        Duration duration = Duration.parse(option("duration", "PT1M"));
+        Duration reportInterval = Duration.parse(option("report", "PT10S"));
+        int writers = Integer.parseInt(option("writers", "4"));
+        int readers = Integer.parseInt(option("readers", "4"));
+        int teams = Integer.parseInt(option("teams", "512"));
+        double goals = Double.parseDouble(option("goals", "2.7"));
+        boolean contended = options.containsKey("contended");
+        ScoreBoardService service = new ScoreBoardService(createDAO(option("store", "snapshot")), metrics);
+        service.addListener(checker);
+
+        System.out.printf("seed=%d writers=%d readers=%d teams/writer=%d store=%s virtual=%s contended=%s%n", seed,
+                writers, readers, teams, option("store", "snapshot"), options.containsKey("virtual"), contended);
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<Future<?>> tasks = new ArrayList<>();
+        ExecutorService executor = createExecutor(writers + readers, options.containsKey("virtual"));
+        ContendedWorkload.Fixtures fixtures = contended
+                ? new ContendedWorkload.Fixtures(teams * writers, Math.max(1, teams * writers / 4)) : null;
+        for (int writer = 0; writer < writers; writer++) {
+            Runnable round;
+            if (contended) {
+                round = new ContendedWorkload(service, checker, seeds.nextLong(), fixtures)::playRound;
+            } else {
+                round = new TournamentWorkload(service, checker, seeds.nextLong(), writer, teams, goals)::playMinute;
+            }
+            tasks.add(executor.submit(() -> {
+                while (running) {
+                    round.run();
+                }
+            }));
+        }
+        for (int reader = 0; reader < readers; reader++) {
+            tasks.add(executor.submit(() -> {
+                InvariantChecker.TeamSet readerTeams = new InvariantChecker.TeamSet();
+                while (running) {
+                    checker.checkSummary(service.getSummary(), readerTeams);
+                    reads.incrementAndGet();
+                }
+            }));
+        }
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long lastReport = start;
+        long lastAllocated = allocatedBytes();
+        while (System.nanoTime() < end) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(reportInterval.toNanos(), end - System.nanoTime()));
+            long now = System.nanoTime();
+            long allocated = allocatedBytes();
+            report(now - start, now - lastReport, allocated - lastAllocated, service);
+            lastReport = now;
+            lastAllocated = allocated;
+        }
+        running = false;
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executor.shutdown();
+
+        if (contended) {
+            System.out.printf("race rejections=%s%n", checker.getRaceRejections());
+        }
+        System.out.printf("violations=%d%n", checker.getViolations());
+        checker.getDescriptions().forEach(description -> System.out.println("  " + description));
+        return checker.getViolations();
+    }
+
+    private void report(long elapsedNanos, long intervalNanos, long allocatedBytes, ScoreBoardService service) {
+        double seconds = intervalNanos / 1e9;
+        StringBuilder line = new StringBuilder(String.format("[%4ds] live=%d", elapsedNanos / 1_000_000_000L,
+                service.getSummarySnapshot().matches().size()));
+        Map<String, LatencyHistogram> timers = metrics.getTimers();
+        for (String name : TIMERS) {
+            LatencyHistogram timer = timers.get(name);
+            long count = timer == null ? 0 : timer.getCount();
+            long delta = count - lastCounts.getOrDefault(name, 0L);
+            lastCounts.put(name, count);
+            line.append(String.format(" | %s %.0f ops/s", name.substring("scoreboard.".length()), delta / seconds));
+            for (double percentile : PERCENTILES) {
+                line.append(String.format(" p%s=%dus", percentile % 1 == 0 ? String.valueOf((long) percentile) : String.valueOf(percentile),
+                        timer == null ? 0 : timer.getValueAtPercentile(percentile) / 1000));
+            }
+        }
+        line.append(String.format(" | alloc %s | violations=%d",
+                allocatedBytes < 0 ? "n/a" : String.format("%.1f MB/s", allocatedBytes / seconds / (1 << 20)),
+                checker.getViolations()));
+        System.out.println(line);
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private static ScoreBoardDAO createDAO(String store) {
+        return switch (store) {
+            case "snapshot" -> ScoreBoardDAO.withSnapshots();
+            case "indexed" -> new ScoreBoardDAO();
+            case "list" -> new ScoreBoardDAO(new ArrayList<>());
+            default -> throw new IllegalArgumentException("Unknown store: " + store);
+        };
+    }
+
+    /**
+     * Virtual threads are looked up reflectively, so the harness still compiles for Java 17.
+     */
+    private static ExecutorService createExecutor(int threads, boolean virtual) throws Exception {
+        if (!virtual) {
+            return Executors.newFixedThreadPool(threads);
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Virtual threads need Java 21 or later.", e);
+        }
+    }
+
+    /**
+     * @return bytes allocated so far by the live platform threads of the JVM, -1 if the JVM does not tell. With
+     * virtual threads this is what their carrier threads allocated.
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean sunThreads)
+                || !sunThreads.isThreadAllocatedMemorySupported() || !sunThreads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        long total = 0;
+        for (long allocated : sunThreads.getThreadAllocatedBytes(sunThreads.getAllThreadIds())) {
+            total += Math.max(0, allocated);
+        }
+        return total;
+    }
+}
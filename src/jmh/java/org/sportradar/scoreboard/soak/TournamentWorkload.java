@@ -0,0 +1,140 @@
+package org.sportradar.scoreboard.soak;
+
+import org.sportradar.scoreboard.services.CommandOutcome;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The commands of one writer of a simulated tournament, generated from a seed.
+ * <p>
+ * Every writer owns its own teams, so writers never conflict (see {@link ContendedWorkload} for writers that do) and
+ * the sequence of commands a writer sends only depends on its seed: two runs with the same seed send the same
+ * commands. Each {@link #playMinute() minute} of play, matches kick off in bursts
+ * while free teams are left, every live match scores a Poisson-distributed number of goals per team, and matches
+ * reaching full time plus some stoppage time are finished. Since all commands are valid, any rejection is reported
+ * to the {@link InvariantChecker}.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+final class TournamentWorkload {
+
+    private static final int FULL_TIME = 90;
+    private static final int MAX_STOPPAGE_TIME = 6;
+    private static final int MAX_KICK_OFF_BURST = 16;
+    private static final double KICK_OFF_PROBABILITY = 0.2;
+
+    private final ScoreBoardService scoreBoardService;
+    private final InvariantChecker checker;
+    private final SplittableRandom random;
+    private final double goalsPerTeamPerMinute;
+    private final Deque<String> freeTeams = new ArrayDeque<>();
+    private final List<LiveMatch> liveMatches = new ArrayList<>();
+
+    /**
+     * @param seed          seed of the commands of the writer.
+     * @param writer        index of the writer, which names its teams.
+     * @param teams         number of teams of the writer, at least two.
+     * @param goalsPerMatch average number of goals of a match.
+     */
+    TournamentWorkload(ScoreBoardService scoreBoardService, InvariantChecker checker, long seed, int writer,
+                       int teams, double goalsPerMatch) {
+        this.scoreBoardService = scoreBoardService;
+        this.checker = checker;
+        this.random = new SplittableRandom(seed);
+        this.goalsPerTeamPerMinute = goalsPerMatch / 2 / FULL_TIME;
+        for (int team = 0; team < teams; team++) {
+            freeTeams.add("Team " + writer + "-" + team);
+        }
+    }
+
+    /**
+     * Plays one minute of all the live matches of the writer.
+     */
+    void playMinute() {
+        if (freeTeams.size() >= 2 && random.nextDouble() < KICK_OFF_PROBABILITY) {
+            kickOff(1 + random.nextInt(Math.min(MAX_KICK_OFF_BURST, freeTeams.size() / 2)));
+        }
+        Iterator<LiveMatch> iterator = liveMatches.iterator();
+        while (iterator.hasNext()) {
+            LiveMatch match = iterator.next();
+            match.minute++;
+            if (match.minute >= match.finalMinute) {
+                expect("finishMatch", scoreBoardService.tryFinishMatch(match.id));
+                freeTeams.add(match.homeTeam);
+                freeTeams.add(match.awayTeam);
+                iterator.remove();
+                continue;
+            }
+            int homeGoals = poisson(goalsPerTeamPerMinute);
+            int awayGoals = poisson(goalsPerTeamPerMinute);
+            if (homeGoals + awayGoals > 0) {
+                match.homeScore += homeGoals;
+                match.awayScore += awayGoals;
+                expect("updateScore", scoreBoardService.tryUpdateScore(match.id, match.homeScore, match.awayScore));
+            }
+        }
+    }
+
+    private void kickOff(int matches) {
+        for (int i = 0; i < matches; i++) {
+            String homeTeam = freeTeams.poll();
+            String awayTeam = freeTeams.poll();
+            CommandOutcome<Integer> outcome = scoreBoardService.tryStartNewMatch(homeTeam, awayTeam);
+            if (expect("startNewMatch", outcome)) {
+                liveMatches.add(new LiveMatch(outcome.orElseThrow(), homeTeam, awayTeam,
+                        FULL_TIME + random.nextInt(MAX_STOPPAGE_TIME + 1)));
+            } else {
+                freeTeams.add(homeTeam);
+                freeTeams.add(awayTeam);
+            }
+        }
+    }
+
+    private boolean expect(String command, CommandOutcome<?> outcome) {
+        if (!outcome.isAccepted()) {
+            checker.unexpectedRejection(command, outcome);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Draws from a Poisson distribution by multiplying uniform numbers, which is cheap for the small means of
+     * goals per minute.
+     */
+    private int poisson(double mean) {
+        double limit = Math.exp(-mean);
+        int count = 0;
+        double product = random.nextDouble();
+        while (product > limit) {
+            count++;
+            product *= random.nextDouble();
+        }
+        return count;
+    }
+
+    private static final class LiveMatch {
+
+        private final int id;
+        private final String homeTeam;
+        private final String awayTeam;
+        private final int finalMinute;
+        private int minute;
+        private int homeScore;
+        private int awayScore;
+
+        LiveMatch(int id, String homeTeam, String awayTeam, int finalMinute) {
+            this.id = id;
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+            this.finalMinute = finalMinute;
+        }
+    }
+}
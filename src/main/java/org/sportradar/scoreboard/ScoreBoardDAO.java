@@ -1,52 +1,645 @@
 package org.sportradar.scoreboard;
 
 import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.SummaryDelta;
+import org.sportradar.scoreboard.entities.SummaryList;
+import org.sportradar.scoreboard.entities.SummaryPage;
+import org.sportradar.scoreboard.entities.SummarySnapshot;
+import org.sportradar.scoreboard.entities.Team;
+import org.sportradar.scoreboard.store.ChangeLog;
+import org.sportradar.scoreboard.store.MatchStore;
+import org.sportradar.scoreboard.store.WriteOrder;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
+ * Data access to the ongoing matches, backed by an indexed {@link MatchStore}.
+ * <p>
+ * A list given to the constructor is kept as a write-through mirror of the board for callers that still
+ * inspect it; all lookups are served by the store. That is a compatibility mode: replacing or removing a match in
+ * the mirror costs a linear scan of the list, so boards on a hot path should be created without a list.
+ * <p>
+ * Every write is safe for concurrent writers and none takes a board-wide lock: the store changes a match with a
+ * compare-and-set of its own entry, so writes of different matches never wait for each other and a write costs
+ * O(log n) for the summary order however large the board grows. Writes which must be reported in order, and all
+ * writes of a board publishing snapshots, hold the stripes of the {@link #inWriteOrder(Match, Supplier) write
+ * order} of the matches and teams they change, which orders the writes of one match without ordering unrelated
+ * ones. Only {@link #inWriteOrder(Supplier)} waits for every write in progress, for rare actions such as taking a
+ * consistent copy of the board.
+ * <p>
+ * A DAO created by {@link #withSnapshots()} publishes an immutable {@link SummarySnapshot} after every accepted
+ * write through a single atomic reference, which readers of the summary read without locking or allocating. The
+ * summary is a {@link SummaryList} sharing its structure with the previous one, so a write publishes in O(log n)
+ * per changed match rather than copying the board. Each write holds the write order of the matches it changes,
+ * see {@link #inWriteOrder(Match, Supplier)}, so the writes of a match are published in the order they were
+ * applied, while writes of unrelated matches run and publish in parallel, retrying a compare-and-set of the
+ * reference when they race. Such a DAO also logs the last changes of the matches, so a client can be sent only
+ * what changed since the version it has.
+ *
  * @author hesam.karimian
  * @created 10/05/2024
  */
 public class ScoreBoardDAO {
 
+    private static final int CHANGE_LOG_CAPACITY = 4096;
+    private static final int WRITE_ORDER_STRIPES = 256;
+
+    private final MatchStore store = new MatchStore();
+    private final AtomicInteger lastMatchId = new AtomicInteger(0);
+    private final AtomicLong version = new AtomicLong(0);
     private final List<Match> scoreBoard;
+    private final boolean publishSnapshots;
+    private final WriteOrder writeOrder = new WriteOrder(WRITE_ORDER_STRIPES);
+    private final ChangeLog changeLog;
+    private final AtomicReference<Publication> publication = new AtomicReference<>(Publication.EMPTY);
+    private volatile long lastSummaryBuildNanos;
+
+    public ScoreBoardDAO() {
+        this(null);
+    }
 
+    /**
+     * Compatibility mode for callers which still read the board from their own list. Every write also updates the
+     * list, under the lock of the list; adding a match is O(1) but replacing or removing one is O(n), so this mode
+     * should be kept off hot paths. Use {@link #ScoreBoardDAO()} or {@link #withSnapshots()} there.
+     *
+     * @param scoreBoard the list mirroring the board, {@code null} for none.
+     */
     public ScoreBoardDAO(List<Match> scoreBoard) {
+        this(scoreBoard, false);
+    }
+
+    private ScoreBoardDAO(List<Match> scoreBoard, boolean publishSnapshots) {
         this.scoreBoard = scoreBoard;
+        this.publishSnapshots = publishSnapshots;
+        this.changeLog = publishSnapshots ? new ChangeLog(CHANGE_LOG_CAPACITY) : null;
+        if (scoreBoard != null) {
+            for (Match match : new ArrayList<>(scoreBoard)) {
+                store.insert(match);
+                lastMatchId.accumulateAndGet(match.id(), Math::max);
+            }
+        }
     }
 
-    public void save(Match match) {
-        int index = scoreBoard.indexOf(match);
-        if (index >= 0) {
-            scoreBoard.set(index, match);
-        } else {
-            scoreBoard.add(match);
+    /**
+     * @return a DAO publishing a new summary snapshot on every accepted write.
+     */
+    public static ScoreBoardDAO withSnapshots() {
+        return new ScoreBoardDAO(null, true);
+    }
+
+    /**
+     * @return a new match id, unique on this board.
+     */
+    public int nextMatchId() {
+        return lastMatchId.incrementAndGet();
+    }
+
+    /**
+     * Allocates a block of consecutive match ids with a single atomic update.
+     *
+     * @param count number of ids to allocate.
+     * @return the first id of the block, the block being {@code [first, first + count)}.
+     */
+    public int nextMatchIds(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Number of match ids should be a positive number.");
         }
+        return lastMatchId.getAndAdd(count) + 1;
+    }
+
+    public void save(Match match) {
+        write(match, changes -> {
+            Optional<Match> previous = store.replace(match);
+            if (previous.isPresent()) {
+                changes.replaced(previous.get(), match);
+            } else {
+                insert(match, changes);
+            }
+        });
+    }
+
+    /**
+     * Replaces the state of several ongoing matches as a single write, so the summary is published once.
+     *
+     * @return the matches which were not replaced because they are no longer on the board.
+     */
+    public List<Match> replaceAll(Collection<Match> matches) {
+        List<Match> missing = new ArrayList<>();
+        write(matches, changes -> {
+            for (Match match : matches) {
+                Optional<Match> previous = store.replace(match);
+                if (previous.isPresent()) {
+                    changes.replaced(previous.get(), match);
+                } else {
+                    missing.add(match);
+                }
+            }
+        });
+        return missing;
+    }
+
+    /**
+     * Replaces the state of an ongoing match unless it changed since the new state was derived from it.
+     *
+     * @return {@code false} if the match is no longer on the board or was changed meanwhile.
+     * @see Match#getVersion()
+     */
+    public boolean compareAndSet(Match match) {
+        return write(match.id(), changes -> compareAndSet(match, changes));
+    }
+
+    /**
+     * Replaces the state of several ongoing matches as a single write, each one unless it changed since its new
+     * state was derived from it.
+     *
+     * @return the matches which were not replaced because they are no longer on the board or changed meanwhile.
+     */
+    public List<Match> compareAndSetAll(Collection<Match> matches) {
+        return compareAndSetAll(matches, match -> {
+        });
+    }
+
+    /**
+     * Replaces the state of several ongoing matches as a single write like {@link #compareAndSetAll(Collection)},
+     * and hands every replaced match to the given consumer right after replacing it, while the write is still in
+     * progress. The consumer therefore sees the board with the matches replaced before it and none after it.
+     *
+     * @return the matches which were not replaced because they are no longer on the board or changed meanwhile.
+     */
+    public List<Match> compareAndSetAll(Collection<Match> matches, Consumer<Match> onReplaced) {
+        List<Match> rejected = new ArrayList<>();
+        write(matches, changes -> {
+            for (Match match : matches) {
+                if (!compareAndSet(match, changes)) {
+                    rejected.add(match);
+                } else {
+                    onReplaced.accept(match);
+                }
+            }
+        });
+        return rejected;
+    }
+
+    /**
+     * Puts back matches recovered from a journal or a snapshot as a single write, and makes sure new match ids
+     * continue after the given last id.
+     *
+     * @param matches     the recovered ongoing matches.
+     * @param lastMatchId the last id allocated before the board was persisted.
+     * @return {@code false} if one of the matches clashes with a match already on the board, it is left out.
+     */
+    public boolean restoreAll(Collection<Match> matches, int lastMatchId) {
+        boolean[] allRestored = {true};
+        this.lastMatchId.accumulateAndGet(lastMatchId, Math::max);
+        write(matches, changes -> {
+            for (Match match : matches) {
+                this.lastMatchId.accumulateAndGet(match.id(), Math::max);
+                allRestored[0] &= insert(match, changes);
+            }
+        });
+        return allRestored[0];
+    }
+
+    /**
+     * @return the last match id allocated on this board.
+     */
+    public int getLastMatchId() {
+        return lastMatchId.get();
+    }
+
+    /**
+     * Adds a new match to the board.
+     *
+     * @return {@code false} if one of the teams is already playing or the match already exists.
+     */
+    public boolean insert(Match match) {
+        return write(match, changes -> insert(match, changes));
+    }
+
+    /**
+     * Adds several new matches to the board as a single write, so the summary is published once.
+     *
+     * @return the matches which were not added because one of their teams is already playing or the match
+     * already exists.
+     */
+    public List<Match> insertAll(Collection<Match> matches) {
+        List<Match> rejected = new ArrayList<>();
+        write(matches, changes -> {
+            for (Match match : matches) {
+                if (!insert(match, changes)) {
+                    rejected.add(match);
+                }
+            }
+        });
+        return rejected;
     }
 
-    public void delete(Match match) {
-        scoreBoard.remove(match);
+    /**
+     * Removes a match from the board.
+     *
+     * @return the state of the match as it was removed, empty if the match was no longer on the board.
+     */
+    public Optional<Match> delete(Match match) {
+        Match[] removed = {null};
+        write(match, changes -> store.remove(match).ifPresent(removedMatch -> {
+            changes.deleted(removedMatch);
+            removed[0] = removedMatch;
+        }));
+        return Optional.ofNullable(removed[0]);
+    }
+
+    /**
+     * Runs an action as one step of the write order of a match: it never overlaps another ordered action on the
+     * same match, while ordered actions on other matches run in parallel. A caller which applies a change and
+     * reports it in one ordered action reports the changes of a match in the order they were applied.
+     *
+     * @return what the action returned.
+     */
+    public <T> T inWriteOrder(int matchId, Supplier<T> action) {
+        return writeOrder.run(matchId, action);
+    }
+
+    /**
+     * Runs an action as one step of the write order of a match and of its teams, for an action starting or
+     * finishing the match: it never overlaps another ordered action on the match, nor one starting or finishing a
+     * match of one of its teams, so a team handed over from a finished match to a new one is reported in order.
+     *
+     * @return what the action returned.
+     */
+    public <T> T inWriteOrder(Match match, Supplier<T> action) {
+        return writeOrder.run(match, action);
+    }
+
+    /**
+     * Runs an action as one step of the write order of several matches and of their teams, for an action
+     * changing them together.
+     *
+     * @return what the action returned.
+     * @see #inWriteOrder(Match, Supplier)
+     */
+    public <T> T inWriteOrder(Collection<Match> matches, Supplier<T> action) {
+        return writeOrder.run(matches, action);
+    }
+
+    /**
+     * Runs an action as one step of the write order of the whole board: no other ordered action is in progress
+     * while it runs and, on a board publishing snapshots, no write either. It waits for every ordered action in
+     * progress, so it is meant for rare actions such as taking a consistent copy of the board.
+     *
+     * @return what the action returned.
+     */
+    public <T> T inWriteOrder(Supplier<T> action) {
+        return writeOrder.runExclusively(action);
     }
 
     public Optional<Match> findById(Integer matchId) {
-        return scoreBoard.stream().filter(m -> m.getId().equals(matchId)).findFirst();
+        return matchId == null ? Optional.empty() : store.findById(matchId);
     }
 
     public Optional<Match> findByMatch(Match match) {
-        return scoreBoard.stream().filter(m -> m.equals(match)).findFirst();
+        return store.findByPair(match.getHomeTeam(), match.getAwayTeam());
+    }
+
+    public Optional<Match> findByPair(String homeTeamName, String awayTeamName) {
+        return store.findByPair(homeTeamName, awayTeamName);
     }
 
     public List<Match> findByAll() {
-        return scoreBoard.stream().sorted(Comparator.reverseOrder()).toList();
+        return publishSnapshots ? publication.get().summary() : buildSummary();
+    }
+
+    /**
+     * @return the matches in summary order without copying them: the published snapshot with snapshots, a live,
+     * weakly consistent view of the store without.
+     */
+    public Collection<Match> findSummaryView() {
+        return publishSnapshots ? publication.get().summary() : store.findAllOrdered();
+    }
+
+    /**
+     * @return the first matches of the summary, at most limit of them.
+     */
+    public List<Match> findTop(int limit) {
+        if (publishSnapshots) {
+            List<Match> matches = publication.get().summary();
+            return matches.subList(0, Math.min(limit, matches.size()));
+        }
+        return store.findOrderedAfter(Long.MIN_VALUE, limit);
+    }
+
+    /**
+     * Reads one page of the summary. The cursor is the position of the last match of the previous page in the
+     * summary order, (total score, id), rather than an offset, so matches changing score meanwhile neither make a
+     * page skip nor repeat the matches which did not change.
+     *
+     * @param cursor the next cursor of the previous page, {@code null} for the first page.
+     * @param size   maximum number of matches on the page.
+     */
+    public SummaryPage findPage(Long cursor, int size) {
+        long afterKey = cursor == null ? Long.MIN_VALUE : cursor;
+        int sizeWithNext = Math.min(size, Integer.MAX_VALUE - 1) + 1;
+        List<Match> matches;
+        if (publishSnapshots) {
+            List<Match> summary = publication.get().summary();
+            int from = firstRankedAfter(summary, afterKey);
+            matches = summary.subList(from, from + Math.min(summary.size() - from, sizeWithNext));
+        } else {
+            matches = store.findOrderedAfter(afterKey, sizeWithNext);
+        }
+        if (matches.size() <= size) {
+            return new SummaryPage(matches, null);
+        }
+        List<Match> page = matches.subList(0, size);
+        return new SummaryPage(page, MatchStore.summaryKey(page.get(size - 1)));
+    }
+
+    /**
+     * @return the latest summary snapshot. Without snapshot publishing it is built on every call, and the version
+     * may already be behind the content when writes run concurrently.
+     */
+    public SummarySnapshot findSummarySnapshot() {
+        if (publishSnapshots) {
+            return publication.get().snapshot();
+        }
+        long currentVersion = version.get();
+        return new SummarySnapshot(currentVersion, buildSummary());
+    }
+
+    /**
+     * @param sinceVersion the version of the summary the client has.
+     * @return the changes from the given version to the latest snapshot, or the latest snapshot as a full delta if
+     * these changes are no longer logged, the version is unknown to this board or snapshots are not published.
+     */
+    public SummaryDelta findSummaryDelta(long sinceVersion) {
+        if (!publishSnapshots) {
+            return SummaryDelta.full(sinceVersion, findSummarySnapshot());
+        }
+        Publication latest = publication.get();
+        long latestVersion = latest.snapshot().version();
+        // Every version before the latest was logged before the next one was published, the latest may not be yet.
+        Map<Integer, Match> changes = sinceVersion > latestVersion
+                ? null : changeLog.changesBetween(sinceVersion, latestVersion - 1);
+        if (changes == null) {
+            return SummaryDelta.full(sinceVersion, latest.snapshot());
+        }
+        if (sinceVersion < latestVersion) {
+            changes.putAll(latest.changes());
+        }
+        List<Match> changedMatches = new ArrayList<>();
+        List<Integer> removedMatchIds = new ArrayList<>();
+        changes.forEach((matchId, state) -> {
+            if (state == null) {
+                removedMatchIds.add(matchId);
+            } else {
+                changedMatches.add(state);
+            }
+        });
+        changedMatches.sort(Comparator.comparingLong(MatchStore::summaryKey));
+        return new SummaryDelta(sinceVersion, latestVersion, false, changedMatches, removedMatchIds);
+    }
+
+    /**
+     * @return the number of accepted writes to this board.
+     */
+    public long getVersion() {
+        return publishSnapshots ? publication.get().snapshot().version() : version.get();
+    }
+
+    /**
+     * @return number of ongoing matches.
+     */
+    public int count() {
+        return store.size();
+    }
+
+    /**
+     * @return how long publishing the last summary took with snapshots, and building the last summary list on read
+     * without.
+     */
+    public long getLastSummaryBuildNanos() {
+        return lastSummaryBuildNanos;
+    }
+
+    /**
+     * @return number of ongoing matches a match went past in the summary when it changed from previous to updated,
+     * counted against the board as it is now, so it is exact only while the change is the last one applied.
+     */
+    public int countOvertaken(Match previous, Match updated) {
+        return store.countRankedBetween(previous, updated);
     }
 
     public Optional<Match> findByTeam(String name) {
-        return scoreBoard.stream()
-                .filter(m -> m.getHomeTeam().getName().equalsIgnoreCase(name)
-                             || m.getAwayTeam().getName().equalsIgnoreCase(name)).findFirst();
+        return store.findByTeam(name);
+    }
+
+    public Optional<Match> findByTeam(Team team) {
+        return store.findByTeam(team);
+    }
+
+    public Optional<Match> findByPair(Team homeTeam, Team awayTeam) {
+        return store.findByPair(homeTeam, awayTeam);
+    }
+
+    private boolean write(int matchId, Consumer<Changes> operation) {
+        return publishSnapshots ? writeOrder.run(matchId, () -> apply(operation)) : apply(operation);
+    }
+
+    private boolean write(Match match, Consumer<Changes> operation) {
+        return publishSnapshots ? writeOrder.run(match, () -> apply(operation)) : apply(operation);
+    }
+
+    private boolean write(Collection<Match> matches, Consumer<Changes> operation) {
+        return publishSnapshots ? writeOrder.run(matches, () -> apply(operation)) : apply(operation);
+    }
+
+    /**
+     * Applies a write to the store and, if it changed the board, publishes its changes as one new version.
+     *
+     * @return {@code false} if the write did not change the board.
+     */
+    private boolean apply(Consumer<Changes> operation) {
+        Changes changes = new Changes();
+        operation.accept(changes);
+        if (changes.isEmpty()) {
+            return false;
+        }
+        if (publishSnapshots) {
+            publish(changes);
+        } else {
+            version.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Publishes the next version of the summary, holding the write order of the changed matches. Writes of other
+     * matches may publish meanwhile, in which case the changes are applied again to the summary they published.
+     * The changes of the version being replaced are logged first, so the log holds every version but the latest.
+     */
+    private void publish(Changes changes) {
+        long start = System.nanoTime();
+        Publication current;
+        Publication next;
+        do {
+            current = publication.get();
+            changeLog.append(current.snapshot().version(), current.changes());
+            SummaryList summary = changes.applyTo(current.summary());
+            next = new Publication(new SummarySnapshot(current.snapshot().version() + 1, summary), summary,
+                    changes.byMatchId);
+        } while (!publication.compareAndSet(current, next));
+        lastSummaryBuildNanos = System.nanoTime() - start;
+    }
+
+    private static int firstRankedAfter(List<Match> summary, long afterKey) {
+        int low = 0;
+        int high = summary.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (MatchStore.summaryKey(summary.get(middle)) <= afterKey) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private List<Match> buildSummary() {
+        long start = System.nanoTime();
+        List<Match> summary = List.copyOf(store.findAllOrdered());
+        lastSummaryBuildNanos = System.nanoTime() - start;
+        return summary;
+    }
+
+    private boolean compareAndSet(Match match, Changes changes) {
+        Optional<Match> previous = store.compareAndReplace(match);
+        previous.ifPresent(previousState -> changes.replaced(previousState, match));
+        return previous.isPresent();
+    }
+
+    private boolean insert(Match match, Changes changes) {
+        if (!store.insert(match)) {
+            return false;
+        }
+        changes.inserted(match);
+        return true;
+    }
+
+    /**
+     * Appends a new match to the list given to the constructor, which cannot hold it yet since the store just
+     * accepted it.
+     */
+    private void recordInsert(Match match) {
+        if (scoreBoard == null) {
+            return;
+        }
+        synchronized (scoreBoard) {
+            scoreBoard.add(match);
+        }
+    }
+
+    /**
+     * Mirrors a replaced match into the list given to the constructor.
+     */
+    private void recordSave(Match match) {
+        if (scoreBoard == null) {
+            return;
+        }
+        synchronized (scoreBoard) {
+            int index = scoreBoard.indexOf(match);
+            if (index >= 0) {
+                scoreBoard.set(index, match);
+            } else {
+                scoreBoard.add(match);
+            }
+        }
+    }
+
+    private void recordDelete(Match match) {
+        if (scoreBoard == null) {
+            return;
+        }
+        synchronized (scoreBoard) {
+            scoreBoard.remove(match);
+        }
+    }
+
+    /**
+     * The changes a write applied to the store so far. Each one is mirrored into the list given to the
+     * constructor as it is applied and, on a board publishing snapshots, kept for the version published once the
+     * write is done.
+     */
+    private final class Changes {
+
+        private final List<Match> previousStates = publishSnapshots ? new ArrayList<>() : null;
+        private final List<Match> newStates = publishSnapshots ? new ArrayList<>() : null;
+        private final Map<Integer, Match> byMatchId = publishSnapshots ? new HashMap<>() : null;
+        private boolean empty = true;
+
+        void inserted(Match match) {
+            keep(match.id(), null, match);
+            recordInsert(match);
+        }
+
+        void replaced(Match previous, Match match) {
+            keep(match.id(), previous, match);
+            recordSave(match);
+        }
+
+        void deleted(Match match) {
+            keep(match.id(), match, null);
+            recordDelete(match);
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+
+        /**
+         * @return the given summary with the changes applied in order.
+         */
+        SummaryList applyTo(SummaryList summary) {
+            for (int i = 0; i < newStates.size(); i++) {
+                Match previous = previousStates.get(i);
+                Match state = newStates.get(i);
+                if (previous != null) {
+                    summary = summary.without(previous);
+                }
+                if (state != null) {
+                    summary = summary.with(state);
+                }
+            }
+            return summary;
+        }
+
+        private void keep(int matchId, Match previous, Match state) {
+            empty = false;
+            if (publishSnapshots) {
+                previousStates.add(previous);
+                newStates.add(state);
+                byMatchId.put(matchId, state);
+            }
+        }
+    }
+
+    /**
+     * What a board publishing snapshots published last: the snapshot, the summary it holds and the changes from
+     * the previous version, each match mapped to its new state or to {@code null} if it was removed.
+     */
+    private record Publication(SummarySnapshot snapshot, SummaryList summary, Map<Integer, Match> changes) {
+
+        private static final Publication EMPTY = new Publication(SummarySnapshot.EMPTY, SummaryList.empty(), Map.of());
     }
 }
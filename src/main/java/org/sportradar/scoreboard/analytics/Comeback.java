@@ -0,0 +1,13 @@
+package org.sportradar.scoreboard.analytics;
+
+/**
+ * A team which was behind in a match and caught up, at least to a draw.
+ *
+ * @param matchId  id of the match.
+ * @param teamName name of the team which came back.
+ * @param deficit  the largest number of goals the team was behind by before catching up.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record Comeback(int matchId, String teamName, int deficit) {
+}
@@ -0,0 +1,133 @@
+package org.sportradar.scoreboard.analytics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The goals of a match in the order they were reported, kept as parallel primitive arrays of the report time and
+ * of the scores after it. A report may add more than one goal, when the feed sends scores in batches.
+ * <p>
+ * Timelines handed out by {@link MatchAnalytics} are copies which never change.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public final class GoalTimeline {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int matchId;
+    private final long startedAt;
+    private long[] times;
+    private int[] homeScores;
+    private int[] awayScores;
+    private int size;
+    private int largestHomeDeficit;
+    private int largestAwayDeficit;
+
+    GoalTimeline(int matchId, long startedAt) {
+        this(matchId, startedAt, new long[INITIAL_CAPACITY], new int[INITIAL_CAPACITY], new int[INITIAL_CAPACITY],
+                0);
+    }
+
+    private GoalTimeline(int matchId, long startedAt, long[] times, int[] homeScores, int[] awayScores, int size) {
+        this.matchId = matchId;
+        this.startedAt = startedAt;
+        this.times = times;
+        this.homeScores = homeScores;
+        this.awayScores = awayScores;
+        this.size = size;
+    }
+
+    public int getMatchId() {
+        return matchId;
+    }
+
+    /**
+     * @return when the match started, in epoch milliseconds.
+     */
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * @return number of score reports.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return when the score report at the given index was accepted, in epoch milliseconds.
+     */
+    public long timeAt(int index) {
+        return times[checkIndex(index)];
+    }
+
+    public int homeScoreAt(int index) {
+        return homeScores[checkIndex(index)];
+    }
+
+    public int awayScoreAt(int index) {
+        return awayScores[checkIndex(index)];
+    }
+
+    public int getHomeTeamScore() {
+        return size == 0 ? 0 : homeScores[size - 1];
+    }
+
+    public int getAwayTeamScore() {
+        return size == 0 ? 0 : awayScores[size - 1];
+    }
+
+    /**
+     * @return goals per minute from the start of the match to the given time.
+     */
+    public double goalsPerMinute(long nowMillis) {
+        long minutes = Duration.ofMillis(Math.max(0, nowMillis - startedAt)).toMinutes();
+        return (getHomeTeamScore() + getAwayTeamScore()) / (double) Math.max(1, minutes);
+    }
+
+    /**
+     * Appends a score report, ignoring the part of it which was already reported.
+     *
+     * @return the comeback completed by this report, or {@code null}.
+     */
+    Comeback record(long time, int homeTeamScore, int awayTeamScore, String homeTeamName, String awayTeamName) {
+        int homeScore = Math.max(homeTeamScore, getHomeTeamScore());
+        int awayScore = Math.max(awayTeamScore, getAwayTeamScore());
+        if (homeScore == getHomeTeamScore() && awayScore == getAwayTeamScore()) {
+            return null;
+        }
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            homeScores = Arrays.copyOf(homeScores, size * 2);
+            awayScores = Arrays.copyOf(awayScores, size * 2);
+        }
+        times[size] = time;
+        homeScores[size] = homeScore;
+        awayScores[size] = awayScore;
+        size++;
+        Comeback comeback = null;
+        if (homeScore >= awayScore && largestHomeDeficit > 0) {
+            comeback = new Comeback(matchId, homeTeamName, largestHomeDeficit);
+            largestHomeDeficit = 0;
+        } else if (awayScore >= homeScore && largestAwayDeficit > 0) {
+            comeback = new Comeback(matchId, awayTeamName, largestAwayDeficit);
+            largestAwayDeficit = 0;
+        }
+        largestHomeDeficit = Math.max(largestHomeDeficit, awayScore - homeScore);
+        largestAwayDeficit = Math.max(largestAwayDeficit, homeScore - awayScore);
+        return comeback;
+    }
+
+    GoalTimeline copy() {
+        return new GoalTimeline(matchId, startedAt, Arrays.copyOf(times, size), Arrays.copyOf(homeScores, size),
+                Arrays.copyOf(awayScores, size), size);
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, size);
+    }
+}
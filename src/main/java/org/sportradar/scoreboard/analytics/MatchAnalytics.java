@@ -0,0 +1,205 @@
+package org.sportradar.scoreboard.analytics;
+
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.Team;
+import org.sportradar.scoreboard.services.ScoreBoardListener;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Live analytics of the matches of a board.
+ * <p>
+ * Registered as a {@link ScoreBoardListener}, it records the {@link GoalTimeline} of every ongoing match and keeps
+ * running aggregates over the whole tournament: the goals scored and conceded by every team, the teams ranked by
+ * goals scored, the total number of goals and the biggest comeback. Every accepted score update changes them
+ * incrementally, so no query goes through the history again: the goals of a team, the total and the biggest
+ * comeback are read in O(1), the best scoring teams in O(log n + limit).
+ * <p>
+ * Goals are counted from the difference to the last scores recorded for the match rather than to the previous
+ * state the listener is given, so updates of one match told out of order are neither lost nor counted twice.
+ * Timelines are only created when a match starts: a match started before the analytics was registered is not
+ * tracked, and an update told after its match finished does not bring the timeline back.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class MatchAnalytics implements ScoreBoardListener {
+
+    private static final Comparator<TeamEntry> BY_GOALS_SCORED =
+            Comparator.comparingLong((TeamEntry entry) -> entry.goalsFor).reversed()
+                    .thenComparing(entry -> entry.canonicalName);
+
+    private final Clock clock;
+    private final ConcurrentMap<Integer, GoalTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<String, TeamEntry> teams = new HashMap<>();
+    private final NavigableSet<TeamEntry> teamsByGoalsScored = new TreeSet<>(BY_GOALS_SCORED);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalGoals;
+    private Comeback biggestComeback;
+
+    public MatchAnalytics() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * @param clock tells the time of the score reports.
+     */
+    public MatchAnalytics(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void onMatchStarted(Match match) {
+        timelines.putIfAbsent(match.id(), new GoalTimeline(match.id(), clock.millis()));
+    }
+
+    @Override
+    public void onScoreUpdated(Match previous, Match updated) {
+        GoalTimeline timeline = timelines.get(updated.id());
+        if (timeline == null) {
+            return;
+        }
+        int homeGoals;
+        int awayGoals;
+        Comeback comeback;
+        synchronized (timeline) {
+            int homeTeamScore = timeline.getHomeTeamScore();
+            int awayTeamScore = timeline.getAwayTeamScore();
+            comeback = timeline.record(clock.millis(), updated.getHomeTeamScore(), updated.getAwayTeamScore(),
+                    updated.getHomeTeamName(), updated.getAwayTeamName());
+            homeGoals = timeline.getHomeTeamScore() - homeTeamScore;
+            awayGoals = timeline.getAwayTeamScore() - awayTeamScore;
+        }
+        if (homeGoals == 0 && awayGoals == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            addGoals(updated.getHomeTeam(), homeGoals, awayGoals);
+            addGoals(updated.getAwayTeam(), awayGoals, homeGoals);
+            totalGoals += homeGoals + awayGoals;
+            if (comeback != null && (biggestComeback == null || comeback.deficit() > biggestComeback.deficit())) {
+                biggestComeback = comeback;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMatchFinished(Match match) {
+        timelines.remove(match.id());
+    }
+
+    /**
+     * @return a copy of the timeline of an ongoing match.
+     */
+    public Optional<GoalTimeline> getTimeline(int matchId) {
+        GoalTimeline timeline = timelines.get(matchId);
+        if (timeline == null) {
+            return Optional.empty();
+        }
+        synchronized (timeline) {
+            return Optional.of(timeline.copy());
+        }
+    }
+
+    /**
+     * @param teamName name of the team, compared case-insensitively.
+     * @return the goals of the team, if it played.
+     */
+    public Optional<TeamGoals> getTeamGoals(String teamName) {
+        lock.readLock().lock();
+        try {
+            TeamEntry entry = teams.get(Team.canonicalName(teamName));
+            return entry == null ? Optional.empty() : Optional.of(entry.toTeamGoals());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param limit maximum number of teams to return.
+     * @return the teams which scored the most goals, best first, teams with as many goals by name.
+     */
+    public List<TeamGoals> getTopScoringTeams(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit should be a positive number.");
+        }
+        lock.readLock().lock();
+        try {
+            List<TeamGoals> topTeams = new ArrayList<>(Math.min(limit, teamsByGoalsScored.size()));
+            Iterator<TeamEntry> iterator = teamsByGoalsScored.iterator();
+            while (topTeams.size() < limit && iterator.hasNext()) {
+                topTeams.add(iterator.next().toTeamGoals());
+            }
+            return topTeams;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the biggest deficit a team caught up with, if any team did.
+     */
+    public Optional<Comeback> getBiggestComeback() {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(biggestComeback);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of goals scored in all the matches.
+     */
+    public long getTotalGoals() {
+        lock.readLock().lock();
+        try {
+            return totalGoals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addGoals(Team team, int goalsFor, int goalsAgainst) {
+        TeamEntry entry = teams.computeIfAbsent(team.getCanonicalName(), name -> new TeamEntry(name, team.getName()));
+        if (goalsFor != 0) {
+            teamsByGoalsScored.remove(entry);
+            entry.goalsFor += goalsFor;
+        }
+        entry.goalsAgainst += goalsAgainst;
+        teamsByGoalsScored.add(entry);
+    }
+
+    private static final class TeamEntry {
+
+        private final String canonicalName;
+        private final String name;
+        private long goalsFor;
+        private long goalsAgainst;
+
+        TeamEntry(String canonicalName, String name) {
+            this.canonicalName = canonicalName;
+            this.name = name;
+        }
+
+        TeamGoals toTeamGoals() {
+            return new TeamGoals(name, goalsFor, goalsAgainst);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.sportradar.scoreboard.analytics;
+
+/**
+ * Goals of a team over all the matches it played while the {@link MatchAnalytics} was listening.
+ *
+ * @param teamName     name of the team.
+ * @param goalsFor     goals the team scored.
+ * @param goalsAgainst goals the team conceded.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record TeamGoals(String teamName, long goalsFor, long goalsAgainst) {
+}
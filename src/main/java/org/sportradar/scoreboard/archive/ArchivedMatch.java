@@ -0,0 +1,20 @@
+package org.sportradar.scoreboard.archive;
+
+import java.time.Instant;
+
+/**
+ * A finished match as kept in the {@link MatchArchive}.
+ *
+ * @param matchId       id the match had on the board.
+ * @param homeTeamName  name of the home team.
+ * @param awayTeamName  name of the away team.
+ * @param homeTeamScore final score of the home team.
+ * @param awayTeamScore final score of the away team.
+ * @param startedAt     when the match started, {@code null} if it started before the archive was listening.
+ * @param finishedAt    when the match finished.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record ArchivedMatch(int matchId, String homeTeamName, String awayTeamName, int homeTeamScore,
+                            int awayTeamScore, Instant startedAt, Instant finishedAt) {
+}
@@ -0,0 +1,149 @@
+package org.sportradar.scoreboard.archive;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * The finished matches of one day, stored as fixed size records in a memory-mapped file.
+ * <p>
+ * A record is {@code [int match id][int home team id][int away team id][int home score][int away score]
+ * [long started at][long finished at]}, times in epoch milliseconds. The file is mapped with room to spare and
+ * remapped twice as large when it is full; a record with match id 0 marks the end of the records. Only the record
+ * numbers of each team are kept on the heap, so finding the matches of a team never scans the day.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+final class DayPartition {
+
+    static final int RECORD_SIZE = 5 * Integer.BYTES + 2 * Long.BYTES;
+    static final long UNKNOWN_TIME = Long.MIN_VALUE;
+
+    private static final int INITIAL_RECORDS = 1024;
+
+    private final FileChannel channel;
+    private final Map<Integer, int[]> recordsByTeam = new HashMap<>();
+    private MappedByteBuffer records;
+    private int capacity;
+    private int count;
+
+    private DayPartition(FileChannel channel, int capacity) throws IOException {
+        this.channel = channel;
+        this.capacity = capacity;
+        this.records = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+    }
+
+    /**
+     * Maps the partition file, creating it if missing, and indexes the records already in it.
+     */
+    static DayPartition open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        int storedRecords = (int) (channel.size() / RECORD_SIZE);
+        DayPartition partition = new DayPartition(channel, Math.max(INITIAL_RECORDS, storedRecords));
+        while (partition.count < storedRecords && partition.matchId(partition.count) != 0) {
+            partition.index(partition.count);
+            partition.count++;
+        }
+        return partition;
+    }
+
+    void append(int matchId, int homeTeamId, int awayTeamId, int homeTeamScore, int awayTeamScore,
+                long startedAt, long finishedAt) throws IOException {
+        if (count == capacity) {
+            capacity *= 2;
+            records = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+        }
+        int offset = count * RECORD_SIZE;
+        records.putInt(offset + Integer.BYTES, homeTeamId);
+        records.putInt(offset + 2 * Integer.BYTES, awayTeamId);
+        records.putInt(offset + 3 * Integer.BYTES, homeTeamScore);
+        records.putInt(offset + 4 * Integer.BYTES, awayTeamScore);
+        records.putLong(offset + 5 * Integer.BYTES, startedAt);
+        records.putLong(offset + 5 * Integer.BYTES + Long.BYTES, finishedAt);
+        records.putInt(offset, matchId);
+        index(count);
+        count++;
+    }
+
+    int size() {
+        return count;
+    }
+
+    void forEach(IntConsumer consumer) {
+        for (int record = 0; record < count; record++) {
+            consumer.accept(record);
+        }
+    }
+
+    void forEachOfTeam(int teamId, IntConsumer consumer) {
+        int[] teamRecords = recordsByTeam.get(teamId);
+        if (teamRecords == null) {
+            return;
+        }
+        for (int i = 1; i <= teamRecords[0]; i++) {
+            consumer.accept(teamRecords[i]);
+        }
+    }
+
+    int matchId(int record) {
+        return records.getInt(record * RECORD_SIZE);
+    }
+
+    int homeTeamId(int record) {
+        return records.getInt(record * RECORD_SIZE + Integer.BYTES);
+    }
+
+    int awayTeamId(int record) {
+        return records.getInt(record * RECORD_SIZE + 2 * Integer.BYTES);
+    }
+
+    int homeTeamScore(int record) {
+        return records.getInt(record * RECORD_SIZE + 3 * Integer.BYTES);
+    }
+
+    int awayTeamScore(int record) {
+        return records.getInt(record * RECORD_SIZE + 4 * Integer.BYTES);
+    }
+
+    long startedAt(int record) {
+        return records.getLong(record * RECORD_SIZE + 5 * Integer.BYTES);
+    }
+
+    long finishedAt(int record) {
+        return records.getLong(record * RECORD_SIZE + 5 * Integer.BYTES + Long.BYTES);
+    }
+
+    /**
+     * Writes the records to disk and cuts the spare room off the file.
+     */
+    void close() throws IOException {
+        records.force();
+        channel.truncate((long) count * RECORD_SIZE);
+        channel.close();
+    }
+
+    /**
+     * Adds the record to the records of both of its teams, kept as {@code [size, record...]}.
+     */
+    private void index(int record) {
+        indexTeam(homeTeamId(record), record);
+        indexTeam(awayTeamId(record), record);
+    }
+
+    private void indexTeam(int teamId, int record) {
+        int[] teamRecords = recordsByTeam.get(teamId);
+        if (teamRecords == null || teamRecords[0] + 1 == teamRecords.length) {
+            teamRecords = teamRecords == null ? new int[4] : Arrays.copyOf(teamRecords, teamRecords.length * 2);
+            recordsByTeam.put(teamId, teamRecords);
+        }
+        teamRecords[++teamRecords[0]] = record;
+    }
+}
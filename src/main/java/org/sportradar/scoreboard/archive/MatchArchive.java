@@ -0,0 +1,245 @@
+package org.sportradar.scoreboard.archive;
+
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.Team;
+import org.sportradar.scoreboard.services.ScoreBoardListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps the finished matches of a board, partitioned by the day they finished on.
+ * <p>
+ * Registered as a {@link ScoreBoardListener}, the archive notes when every match starts and, once it finishes,
+ * appends its final score to the memory-mapped file of that day, so a whole season of results stays off the heap
+ * while the live board only holds the ongoing matches. Team names are stored once in a dictionary file and the
+ * records refer to them by id. Queries pick the partitions of the requested days and, for a team, only read the
+ * records of that team.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class MatchArchive implements ScoreBoardListener, AutoCloseable {
+
+    public static final String TEAMS_FILE = "teams.archive";
+
+    private static final String PARTITION_PREFIX = "matches-";
+    private static final String PARTITION_SUFFIX = ".archive";
+
+    private final Path directory;
+    private final Clock clock;
+    private final FileChannel teamsChannel;
+    private final Map<String, Integer> teamIds = new HashMap<>();
+    private final List<String> teamNames = new ArrayList<>();
+    private final NavigableMap<LocalDate, DayPartition> partitions = new TreeMap<>();
+    private final ConcurrentMap<Integer, Long> startTimes = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private MatchArchive(Path directory, Clock clock) throws IOException {
+        this.directory = directory;
+        this.clock = clock;
+        this.teamsChannel = FileChannel.open(directory.resolve(TEAMS_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        readTeams();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                PARTITION_PREFIX + "*" + PARTITION_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                LocalDate day = LocalDate.parse(fileName.substring(PARTITION_PREFIX.length(),
+                        fileName.length() - PARTITION_SUFFIX.length()));
+                partitions.put(day, DayPartition.open(file));
+            }
+        }
+    }
+
+    public static MatchArchive open(Path directory) {
+        return open(directory, Clock.systemUTC());
+    }
+
+    /**
+     * Opens the archive in the directory, created if missing. The returned archive still has to be registered as
+     * a listener of the service.
+     *
+     * @param directory directory of the archive files.
+     * @param clock     tells the start and finish times of the matches, and in its zone the day they belong to.
+     */
+    public static MatchArchive open(Path directory, Clock clock) {
+        try {
+            Files.createDirectories(directory);
+            return new MatchArchive(directory, clock);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onMatchStarted(Match match) {
+        startTimes.put(match.id(), clock.millis());
+    }
+
+    @Override
+    public void onMatchFinished(Match match) {
+        Long startedAt = startTimes.remove(match.id());
+        long finishedAt = clock.millis();
+        LocalDate day = LocalDate.ofInstant(Instant.ofEpochMilli(finishedAt), clock.getZone());
+        lock.writeLock().lock();
+        try {
+            DayPartition partition = partitions.get(day);
+            if (partition == null) {
+                partition = DayPartition.open(directory.resolve(PARTITION_PREFIX + day + PARTITION_SUFFIX));
+                partitions.put(day, partition);
+            }
+            partition.append(match.id(), teamId(match.getHomeTeam()), teamId(match.getAwayTeam()),
+                    match.getHomeTeamScore(), match.getAwayTeamScore(),
+                    startedAt == null ? DayPartition.UNKNOWN_TIME : startedAt, finishedAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param from first day, inclusive.
+     * @param to   last day, inclusive.
+     * @return the matches finished in the given days, in the order they finished.
+     */
+    public List<ArchivedMatch> findBetween(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            List<ArchivedMatch> matches = new ArrayList<>();
+            for (DayPartition partition : partitions.subMap(from, true, to, true).values()) {
+                partition.forEach(record -> matches.add(toArchivedMatch(partition, record)));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param teamName name of the team, compared case-insensitively.
+     * @param from     first day, inclusive.
+     * @param to       last day, inclusive.
+     * @return the matches the team played, at home or away, which finished in the given days, in the order they
+     * finished.
+     */
+    public List<ArchivedMatch> findByTeam(String teamName, LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            Integer teamId = teamIds.get(Team.canonicalName(teamName));
+            if (teamId == null) {
+                return List.of();
+            }
+            List<ArchivedMatch> matches = new ArrayList<>();
+            for (DayPartition partition : partitions.subMap(from, true, to, true).values()) {
+                partition.forEachOfTeam(teamId, record -> matches.add(toArchivedMatch(partition, record)));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of matches in the archive.
+     */
+    public long getArchivedCount() {
+        lock.readLock().lock();
+        try {
+            return partitions.values().stream().mapToLong(DayPartition::size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            for (DayPartition partition : partitions.values()) {
+                partition.close();
+            }
+            teamsChannel.force(true);
+            teamsChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private ArchivedMatch toArchivedMatch(DayPartition partition, int record) {
+        long startedAt = partition.startedAt(record);
+        return new ArchivedMatch(partition.matchId(record),
+                teamNames.get(partition.homeTeamId(record)), teamNames.get(partition.awayTeamId(record)),
+                partition.homeTeamScore(record), partition.awayTeamScore(record),
+                startedAt == DayPartition.UNKNOWN_TIME ? null : Instant.ofEpochMilli(startedAt),
+                Instant.ofEpochMilli(partition.finishedAt(record)));
+    }
+
+    /**
+     * @return the id of the team in the dictionary, appending the team to the dictionary file if it is new.
+     */
+    private int teamId(Team team) throws IOException {
+        Integer teamId = teamIds.get(team.getCanonicalName());
+        if (teamId != null) {
+            return teamId;
+        }
+        byte[] name = team.getName().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + name.length).putInt(name.length).put(name).flip();
+        while (entry.hasRemaining()) {
+            teamsChannel.write(entry, teamsChannel.size());
+        }
+        return addTeam(team.getName());
+    }
+
+    private int addTeam(String teamName) {
+        int teamId = teamNames.size();
+        teamNames.add(teamName);
+        teamIds.put(Team.canonicalName(teamName), teamId);
+        return teamId;
+    }
+
+    /**
+     * Reads the dictionary as {@code [int length][UTF-8 name]} entries, the id of a team being its position, and
+     * cuts off a torn entry at the end.
+     */
+    private void readTeams() throws IOException {
+        ByteBuffer teams = ByteBuffer.allocate((int) teamsChannel.size());
+        while (teams.hasRemaining() && teamsChannel.read(teams, teams.position()) >= 0) {
+            // reads the whole dictionary
+        }
+        teams.flip();
+        while (teams.remaining() >= Integer.BYTES) {
+            int length = teams.getInt(teams.position());
+            if (length < 0 || length > teams.remaining() - Integer.BYTES) {
+                break;
+            }
+            byte[] name = new byte[length];
+            teams.position(teams.position() + Integer.BYTES).get(name);
+            addTeam(new String(name, StandardCharsets.UTF_8));
+        }
+        teamsChannel.truncate(teams.position());
+    }
+}
@@ -0,0 +1,12 @@
+package org.sportradar.scoreboard.entities;
+
+/**
+ * An ongoing match together with the competition it belongs to.
+ *
+ * @param competition key of the competition board holding the match.
+ * @param match       the match, its id is unique only within the competition.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record CompetitionMatch(String competition, Match match) {
+}
@@ -0,0 +1,12 @@
+package org.sportradar.scoreboard.entities;
+
+/**
+ * A match to be started, as used by bulk loading of a matchday.
+ *
+ * @param homeTeamName name of the team that plays at home.
+ * @param awayTeamName name of the team that plays away.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record Fixture(String homeTeamName, String awayTeamName) {
+}
@@ -1,10 +1,12 @@
 package org.sportradar.scoreboard.entities;
 
-import java.util.Date;
-import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * An immutable ongoing match. Teams are immutable too, so they are handed out as they are and none of the
+ * accessors but the boxed {@link #getId()}, nor {@link #equals(Object)}, {@link #hashCode()} or
+ * {@link #compareTo(Match)} allocate.
+ *
  * @author Hesam.Karimian
  * @since 12.11.2023
  */
@@ -12,39 +14,95 @@ public final class Match implements Comparable<Match> {
 
   private static final AtomicInteger globalId = new AtomicInteger(0);
 
-  private final Integer id;
+  private final int id;
+  private final int version;
   private final Team homeTeam;
   private final Team awayTeam;
+  private final int totalScore;
+  private final int hash;
 
   public static Match getNewMatch(String homeTeamName, String awayTeamName) {
-    Team homeTeam = new Team(homeTeamName);
-    Team awayteam = new Team(awayTeamName);
-    Integer newId = globalId.incrementAndGet();
-    return new Match(newId, homeTeam, awayteam);
+    return getNewMatch(globalId.incrementAndGet(), homeTeamName, awayTeamName);
+  }
+
+  public static Match getNewMatch(int id, String homeTeamName, String awayTeamName) {
+    return new Match(id, 0, new Team(homeTeamName), new Team(awayTeamName));
+  }
+
+  public static Match getNewMatch(int id, Team homeTeam, Team awayTeam) {
+    return new Match(id, 0, homeTeam.withScore(0), awayTeam.withScore(0));
   }
 
   public static Match getNewMatch(Match match, int homeTeamScore, int awayTeamScore) {
-    Team homeTeam = new Team(match.getHomeTeam().getName(), homeTeamScore);
-    Team awayteam = new Team(match.getAwayTeam().getName(), awayTeamScore);
-    return new Match(match.getId(), homeTeam, awayteam);
+    return new Match(match.id, match.version + 1, match.homeTeam.withScore(homeTeamScore),
+        match.awayTeam.withScore(awayTeamScore));
+  }
+
+  /**
+   * @return the match with the given scores at exactly the given version, for restoring a match as it was stored.
+   */
+  public static Match getNewMatch(Match match, int homeTeamScore, int awayTeamScore, int version) {
+    if (version < 0) {
+      throw new IllegalArgumentException("Match version should not be negative.");
+    }
+    return new Match(match.id, version, match.homeTeam.withScore(homeTeamScore),
+        match.awayTeam.withScore(awayTeamScore));
   }
 
-  private Match(Integer id, Team homeTeam, Team awayTeam) {
+  private Match(int id, int version, Team homeTeam, Team awayTeam) {
     this.id = id;
+    this.version = version;
     this.homeTeam = homeTeam;
     this.awayTeam = awayTeam;
+    this.totalScore = homeTeam.score() + awayTeam.score();
+    this.hash = 31 * awayTeam.hashCode() + homeTeam.hashCode();
   }
 
   public Integer getId() {
     return id;
   }
 
+  /**
+   * @return the id of the match, without boxing it.
+   */
+  public int id() {
+    return id;
+  }
+
+  /**
+   * @return number of score updates applied to the match since it started, the new state of a match always has
+   * the version of the state it was derived from plus one.
+   */
+  public int getVersion() {
+    return version;
+  }
+
   public Team getHomeTeam() {
-    return new Team(homeTeam.getName(), homeTeam.getScore());
+    return homeTeam;
   }
 
   public Team getAwayTeam() {
-    return new Team(awayTeam.getName(), awayTeam.getScore());
+    return awayTeam;
+  }
+
+  public String getHomeTeamName() {
+    return homeTeam.getName();
+  }
+
+  public String getAwayTeamName() {
+    return awayTeam.getName();
+  }
+
+  public int getHomeTeamScore() {
+    return homeTeam.score();
+  }
+
+  public int getAwayTeamScore() {
+    return awayTeam.score();
+  }
+
+  public int getTotalScore() {
+    return totalScore;
   }
 
   @Override
@@ -55,13 +113,12 @@ public final class Match implements Comparable<Match> {
     if (!(o instanceof Match that)) {
       return false;
     }
-    return Objects.equals(this.getAwayTeam(), that.getAwayTeam()) &&
-           Objects.equals(this.getHomeTeam(), that.getHomeTeam()) ;
+    return hash == that.hash && awayTeam.equals(that.awayTeam) && homeTeam.equals(that.homeTeam);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(getAwayTeam(), getHomeTeam());
+    return hash;
   }
 
   @Override
@@ -69,15 +126,11 @@ public final class Match implements Comparable<Match> {
     if (o == null) {
       return 1;
     }
-    int compareResult = getMatchTotalScore(this).compareTo(o.getMatchTotalScore(o));
+    int compareResult = Integer.compare(totalScore, o.totalScore);
     if (compareResult != 0) {
       return compareResult;
     }
-    return this.getId().compareTo(o.getId());
-  }
-
-  private Integer getMatchTotalScore(Match team) {
-    return team.getAwayTeam().getScore() + team.getHomeTeam().getScore();
+    return Integer.compare(id, o.id);
   }
 
 }
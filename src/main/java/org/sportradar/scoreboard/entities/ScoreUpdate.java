@@ -0,0 +1,13 @@
+package org.sportradar.scoreboard.entities;
+
+/**
+ * A new score for an ongoing match, as used by batch updates.
+ *
+ * @param matchId       id of the match.
+ * @param homeTeamScore number of goals home team had already scored.
+ * @param awayTeamScore number of goals away team had already scored.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record ScoreUpdate(Integer matchId, int homeTeamScore, int awayTeamScore) {
+}
@@ -0,0 +1,31 @@
+package org.sportradar.scoreboard.entities;
+
+import java.util.List;
+
+/**
+ * The changes of the summary between two versions of the board.
+ * <p>
+ * A client applies a delta by dropping the removed matches and putting in the changed ones, replacing any match
+ * with the same id, then ordering by the summary order; matches which only moved because others changed are not
+ * repeated. A full delta carries the whole summary, which replaces whatever the client had.
+ *
+ * @param sinceVersion     version of the board the client had.
+ * @param version          version of the board after applying the delta.
+ * @param full             whether the delta is a full summary rather than a difference.
+ * @param changedMatches   the started and re-scored matches, or the whole summary when full, in summary order.
+ * @param removedMatchIds  ids of the finished matches.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record SummaryDelta(long sinceVersion, long version, boolean full, List<Match> changedMatches,
+                           List<Integer> removedMatchIds) {
+
+    public SummaryDelta {
+        changedMatches = changedMatches instanceof SummaryList ? changedMatches : List.copyOf(changedMatches);
+        removedMatchIds = List.copyOf(removedMatchIds);
+    }
+
+    public static SummaryDelta full(long sinceVersion, SummarySnapshot snapshot) {
+        return new SummaryDelta(sinceVersion, snapshot.version(), true, snapshot.matches(), List.of());
+    }
+}
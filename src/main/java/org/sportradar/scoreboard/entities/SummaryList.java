@@ -0,0 +1,245 @@
+package org.sportradar.scoreboard.entities;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list of matches in summary order, which shares its structure with the list it was derived from.
+ * <p>
+ * The matches are kept in a persistent weight-balanced tree: {@link #with(Match) adding} or
+ * {@link #without(Match) removing} a match copies only the O(log n) nodes on its path and leaves this list as it
+ * is, so a board can publish a new summary after every write without copying the matches which did not change.
+ * Reading a position costs O(log n) and iterating over the whole list O(n).
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public final class SummaryList extends AbstractList<Match> {
+
+    private static final SummaryList EMPTY = new SummaryList(null);
+    // A subtree holds at most three quarters of the weight of its parent, so a tree of Integer.MAX_VALUE matches
+    // is at most log4/3(2^31) < 75 levels deep.
+    private static final int MAX_DEPTH = 75;
+    private static final int DELTA = 3;
+    private static final int RATIO = 2;
+
+    private final Node root;
+
+    private SummaryList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * @return the summary without any match.
+     */
+    public static SummaryList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return this summary with the given match in its place, replacing the match with the same id and the same
+     * total score, if any.
+     */
+    public SummaryList with(Match match) {
+        return new SummaryList(insert(root, match));
+    }
+
+    /**
+     * @return this summary without the match with the same id and the same total score as the given one, that is
+     * without the given state of a match, or this summary if it does not hold that state.
+     */
+    public SummaryList without(Match match) {
+        Node removed = remove(root, match);
+        return removed == root ? this : new SummaryList(removed);
+    }
+
+    @Override
+    public Match get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.match;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public Iterator<Match> iterator() {
+        return new InOrder(root);
+    }
+
+    /**
+     * Summary order: a higher total score first and, for the same total score, the most recently started match.
+     */
+    private static int compare(Match match, Match other) {
+        int byTotalScore = Integer.compare(other.getTotalScore(), match.getTotalScore());
+        return byTotalScore != 0 ? byTotalScore : Integer.compare(other.id(), match.id());
+    }
+
+    private static Node insert(Node node, Match match) {
+        if (node == null) {
+            return new Node(match, null, null);
+        }
+        int order = compare(match, node.match);
+        if (order < 0) {
+            return balance(node.match, insert(node.left, match), node.right);
+        }
+        if (order > 0) {
+            return balance(node.match, node.left, insert(node.right, match));
+        }
+        return new Node(match, node.left, node.right);
+    }
+
+    private static Node remove(Node node, Match match) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(match, node.match);
+        if (order < 0) {
+            Node left = remove(node.left, match);
+            return left == node.left ? node : balance(node.match, left, node.right);
+        }
+        if (order > 0) {
+            Node right = remove(node.right, match);
+            return right == node.right ? node : balance(node.match, node.left, right);
+        }
+        return glue(node.left, node.right);
+    }
+
+    private static Node glue(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.size > right.size) {
+            return balance(last(left), removeLast(left), right);
+        }
+        return balance(first(right), left, removeFirst(right));
+    }
+
+    private static Match first(Node node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.match;
+    }
+
+    private static Match last(Node node) {
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.match;
+    }
+
+    private static Node removeFirst(Node node) {
+        return node.left == null ? node.right : balance(node.match, removeFirst(node.left), node.right);
+    }
+
+    private static Node removeLast(Node node) {
+        return node.right == null ? node.left : balance(node.match, node.left, removeLast(node.right));
+    }
+
+    /**
+     * Rebuilds a node whose subtrees were balanced before one of them gained or lost a match, rotating once if
+     * one subtree became more than {@value #DELTA} times heavier than the other.
+     */
+    private static Node balance(Match match, Node left, Node right) {
+        int leftSize = size(left);
+        int rightSize = size(right);
+        if (leftSize + rightSize > 1) {
+            if (rightSize > DELTA * leftSize) {
+                return rotateLeft(match, left, right);
+            }
+            if (leftSize > DELTA * rightSize) {
+                return rotateRight(match, left, right);
+            }
+        }
+        return new Node(match, left, right);
+    }
+
+    private static Node rotateLeft(Match match, Node left, Node right) {
+        if (size(right.left) < RATIO * size(right.right)) {
+            return new Node(right.match, new Node(match, left, right.left), right.right);
+        }
+        Node middle = right.left;
+        return new Node(middle.match, new Node(match, left, middle.left),
+                new Node(right.match, middle.right, right.right));
+    }
+
+    private static Node rotateRight(Match match, Node left, Node right) {
+        if (size(left.right) < RATIO * size(left.left)) {
+            return new Node(left.match, left.left, new Node(match, left.right, right));
+        }
+        Node middle = left.right;
+        return new Node(middle.match, new Node(left.match, left.left, middle.left),
+                new Node(match, middle.right, right));
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+
+        private final Match match;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        private Node(Match match, Node left, Node right) {
+            this.match = match;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    private static final class InOrder implements Iterator<Match> {
+
+        private final Node[] path = new Node[MAX_DEPTH];
+        private int depth;
+
+        private InOrder(Node root) {
+            descendLeft(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public Match next() {
+            if (depth == 0) {
+                throw new NoSuchElementException();
+            }
+            Node node = path[--depth];
+            descendLeft(node.right);
+            return node.match;
+        }
+
+        private void descendLeft(Node node) {
+            while (node != null) {
+                path[depth++] = node;
+                node = node.left;
+            }
+        }
+    }
+}
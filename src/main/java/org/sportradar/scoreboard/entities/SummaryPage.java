@@ -0,0 +1,18 @@
+package org.sportradar.scoreboard.entities;
+
+import java.util.List;
+
+/**
+ * One page of the summary of the board.
+ *
+ * @param matches    the matches of the page in summary order, unmodifiable.
+ * @param nextCursor cursor of the next page, {@code null} if this is the last page.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record SummaryPage(List<Match> matches, Long nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,24 @@
+package org.sportradar.scoreboard.entities;
+
+import java.util.List;
+
+/**
+ * An immutable, ordered summary of the board as it was after a given write.
+ * <p>
+ * The version grows by one with every accepted write to the board, so two snapshots with the same version have
+ * the same content and can be used as an ETag. A {@link SummaryList} is kept as it is, since it is immutable and
+ * shares its structure with the summaries published before it; any other list is copied.
+ *
+ * @param version  version of the board this summary belongs to.
+ * @param matches  the ongoing matches in summary order, unmodifiable.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record SummarySnapshot(long version, List<Match> matches) {
+
+    public static final SummarySnapshot EMPTY = new SummarySnapshot(0, SummaryList.empty());
+
+    public SummarySnapshot {
+        matches = matches instanceof SummaryList ? matches : List.copyOf(matches);
+    }
+}
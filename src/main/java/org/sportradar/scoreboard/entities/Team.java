@@ -1,34 +1,99 @@
 package org.sportradar.scoreboard.entities;
 
+import org.sportradar.scoreboard.store.TeamRegistry;
+
+import java.util.Locale;
 import java.util.Objects;
 
 /**
+ * A team and its score in a match. Teams are equal when their {@link #canonicalName(String) canonical names} are,
+ * the same rule the board uses to find out whether a team is already playing. The canonical name and the id the
+ * {@link TeamRegistry#shared() team registry} gives it are resolved once per team name and carried over to every
+ * new score of the team, so boards index teams and teams compare equal by the int id.
+ *
  * @author hesam.karimian
  * @created 10/05/2024
  */
 public final class Team {
 
     private final String name;
-    private final Integer score;
+    private final String canonicalName;
+    private final int id;
+    private final int score;
+    private final int hash;
 
     public Team(String name) {
-        this.name = name;
-        this.score = 0;
+        this(name, 0);
+    }
+
+    public Team(String name, int score) {
+        this(name, canonicalName(name), score);
     }
 
+    /**
+     * A {@code null} score counts as no goals.
+     */
     public Team(String name, Integer score) {
+        this(name, score == null ? 0 : score);
+    }
+
+    private Team(String name, String canonicalName, int score) {
+        this(name, canonicalName,
+                canonicalName == null ? TeamRegistry.NO_TEAM : TeamRegistry.shared().register(canonicalName), score);
+    }
+
+    private Team(String name, String canonicalName, int id, int score) {
         this.name = name;
+        this.canonicalName = canonicalName;
+        this.id = id;
         this.score = score;
+        this.hash = Objects.hashCode(canonicalName);
+    }
+
+    /**
+     * @return the name teams are compared and indexed by: the name in lower case, independent of the JVM locale.
+     */
+    public static String canonicalName(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the same team with another score.
+     */
+    public Team withScore(int score) {
+        if (score == this.score) {
+            return this;
+        }
+        return new Team(name, canonicalName, id, score);
     }
 
     public String getName() {
         return name;
     }
 
+    public String getCanonicalName() {
+        return canonicalName;
+    }
+
+    /**
+     * @return the id the shared team registry gave the canonical name when the team was created, or
+     * {@link TeamRegistry#NO_TEAM} for a team without a name. Ids are never reused, so it always stands for this name.
+     */
+    public int id() {
+        return id;
+    }
+
     public Integer getScore() {
         return score;
     }
 
+    /**
+     * @return the score of the team, without boxing it.
+     */
+    public int score() {
+        return score;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -37,12 +102,16 @@ public final class Team {
         if (!(o instanceof Team that)) {
             return false;
         }
-        return Objects.equals(this.getName(), that.getName());
+        if (id == that.id && id != TeamRegistry.NO_TEAM) {
+            return true;
+        }
+        // A name evicted from the registry and registered again gets a new id, so different ids may still be one team.
+        return hash == that.hash && Objects.equals(this.canonicalName, that.canonicalName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getName());
+        return hash;
     }
 
 }
@@ -0,0 +1,58 @@
+package org.sportradar.scoreboard.events;
+
+import org.sportradar.scoreboard.entities.Match;
+
+/**
+ * A change applied to a board, as emitted by a {@link ScoreBoardEventPublisher}.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public sealed interface ScoreBoardEvent {
+
+    /**
+     * @return id of the match the event is about.
+     */
+    int matchId();
+
+    record MatchStarted(Match match) implements ScoreBoardEvent {
+
+        @Override
+        public int matchId() {
+            return match.id();
+        }
+    }
+
+    record ScoreChanged(Match previous, Match updated) implements ScoreBoardEvent {
+
+        @Override
+        public int matchId() {
+            return updated.id();
+        }
+    }
+
+    record MatchFinished(Match match) implements ScoreBoardEvent {
+
+        @Override
+        public int matchId() {
+            return match.id();
+        }
+    }
+
+    /**
+     * A score change moved a match up in the summary. Starting or finishing a match shifts the rank of the matches
+     * after it too, that is not repeated as rank changes.
+     *
+     * @param match           the match with its new score.
+     * @param positionsGained number of matches it went past, counted against the board as it was when the score
+     *                        changed. Within a batch update that is the board with the matches of the batch
+     *                        applied before this one.
+     */
+    record RankChanged(Match match, int positionsGained) implements ScoreBoardEvent {
+
+        @Override
+        public int matchId() {
+            return match.id();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package org.sportradar.scoreboard.events;
+
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.services.ScoreBoardListener;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the changes applied to a board as a stream of {@link ScoreBoardEvent}s.
+ * <p>
+ * Registered as a listener of a {@link org.sportradar.scoreboard.services.ScoreBoardService}, the publisher puts
+ * every event into a bounded buffer per subscriber and returns; events are delivered on the given executor, one
+ * subscriber at a time in order, and only as far as the subscriber requested. A slow subscriber therefore never
+ * stalls the service: once its buffer is full the {@link OverflowPolicy} decides which events it loses.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class ScoreBoardEventPublisher implements Flow.Publisher<ScoreBoardEvent>, ScoreBoardListener, AutoCloseable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 256;
+
+    /**
+     * What a subscriber loses when its buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The oldest buffered event is dropped.
+         */
+        DROP_OLDEST,
+        /**
+         * The new event is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * A score change of a match whose previous score change is still buffered is merged into that one, whether
+         * the buffer is full or not, so the subscriber gets the latest score in one event. Other events drop the
+         * oldest buffered event when the buffer is full.
+         */
+        COALESCE_SCORES
+    }
+
+    private final ScoreBoardDAO scoreBoardDAO;
+    private final Executor executor;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder droppedEvents = new LongAdder();
+    private volatile boolean closed;
+
+    public ScoreBoardEventPublisher(ScoreBoardDAO scoreBoardDAO) {
+        this(scoreBoardDAO, ForkJoinPool.commonPool(), DEFAULT_BUFFER_SIZE, OverflowPolicy.COALESCE_SCORES);
+    }
+
+    /**
+     * @param scoreBoardDAO  the board the events come from, used to find out how far a match moved in the summary.
+     * @param executor       runs the delivery to subscribers.
+     * @param bufferSize     number of events buffered per subscriber.
+     * @param overflowPolicy what a subscriber loses when its buffer is full.
+     */
+    public ScoreBoardEventPublisher(ScoreBoardDAO scoreBoardDAO, Executor executor, int bufferSize,
+                                    OverflowPolicy overflowPolicy) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size should be a positive number.");
+        }
+        this.scoreBoardDAO = scoreBoardDAO;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber) {
+        BufferedSubscription subscription = new BufferedSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        if (closed) {
+            subscription.complete();
+        } else {
+            subscriptions.add(subscription);
+        }
+    }
+
+    @Override
+    public void onMatchStarted(Match match) {
+        publish(new ScoreBoardEvent.MatchStarted(match));
+    }
+
+    @Override
+    public void onScoreUpdated(Match previous, Match updated) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        publish(new ScoreBoardEvent.ScoreChanged(previous, updated));
+        int overtaken = scoreBoardDAO.countOvertaken(previous, updated);
+        if (overtaken > 0) {
+            publish(new ScoreBoardEvent.RankChanged(updated, overtaken));
+        }
+    }
+
+    @Override
+    public void onMatchFinished(Match match) {
+        publish(new ScoreBoardEvent.MatchFinished(match));
+    }
+
+    /**
+     * @return number of events lost by all subscribers because their buffers were full.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Completes every subscriber once it received the events already buffered for it.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (BufferedSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+        subscriptions.clear();
+    }
+
+    private void publish(ScoreBoardEvent event) {
+        for (BufferedSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    private final class BufferedSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super ScoreBoardEvent> subscriber;
+        private final ArrayDeque<ScoreBoardEvent> buffer = new ArrayDeque<>();
+        private final Map<Integer, ScoreBoardEvent.ScoreChanged> bufferedScores = new HashMap<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        BufferedSubscription(Flow.Subscriber<? super ScoreBoardEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested number of events should be a positive number.");
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        void offer(ScoreBoardEvent event) {
+            synchronized (buffer) {
+                if (overflowPolicy == OverflowPolicy.COALESCE_SCORES
+                    && event instanceof ScoreBoardEvent.ScoreChanged scoreChanged) {
+                    ScoreBoardEvent.ScoreChanged buffered = bufferedScores.get(scoreChanged.matchId());
+                    if (buffered != null) {
+                        bufferedScores.put(scoreChanged.matchId(),
+                                new ScoreBoardEvent.ScoreChanged(buffered.previous(), scoreChanged.updated()));
+                        return;
+                    }
+                }
+                if (buffer.size() >= bufferSize) {
+                    droppedEvents.increment();
+                    if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                        return;
+                    }
+                    forget(buffer.poll());
+                }
+                buffer.offer(event);
+                if (overflowPolicy == OverflowPolicy.COALESCE_SCORES
+                    && event instanceof ScoreBoardEvent.ScoreChanged scoreChanged) {
+                    bufferedScores.put(scoreChanged.matchId(), scoreChanged);
+                }
+            }
+            scheduleDrain();
+        }
+
+        void complete() {
+            completed = true;
+            scheduleDrain();
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            while (!cancelled) {
+                if (error != null) {
+                    cancel();
+                    subscriber.onError(error);
+                    return;
+                }
+                ScoreBoardEvent event;
+                synchronized (buffer) {
+                    if (buffer.isEmpty()) {
+                        break;
+                    }
+                    if (demand.get() == 0) {
+                        return;
+                    }
+                    event = forget(buffer.poll());
+                }
+                demand.decrementAndGet();
+                try {
+                    subscriber.onNext(event);
+                } catch (RuntimeException e) {
+                    cancel();
+                    subscriber.onError(e);
+                    return;
+                }
+            }
+            if (completed && !cancelled) {
+                cancelled = true;
+                subscriber.onComplete();
+            }
+        }
+
+        /**
+         * Removes a buffered score change from the coalescing index and returns its latest, merged, state.
+         */
+        private ScoreBoardEvent forget(ScoreBoardEvent event) {
+            if (event instanceof ScoreBoardEvent.ScoreChanged scoreChanged) {
+                ScoreBoardEvent.ScoreChanged latest = bufferedScores.remove(scoreChanged.matchId());
+                return latest == null ? event : latest;
+            }
+            return event;
+        }
+
+        private void scheduleDrain() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+    }
+}
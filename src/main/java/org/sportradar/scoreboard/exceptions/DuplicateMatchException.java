@@ -4,8 +4,8 @@ package org.sportradar.scoreboard.exceptions;
  * @author hesam.karimian
  * @created 10/05/2024
  */
-public class DuplicateMatchException extends RuntimeException {
+public class DuplicateMatchException extends ScoreBoardException {
     public DuplicateMatchException(String teamA, String teamB) {
-        super(String.format("A Match between team %s and team %b already exists.", teamA, teamB));
+        super("A Match between team %s and team %s already exists.", teamA, teamB);
     }
 }
@@ -4,12 +4,12 @@ package org.sportradar.scoreboard.exceptions;
  * @author hesam.karimian
  * @created 10/05/2024
  */
-public class MatchNotFoundException extends RuntimeException {
+public class MatchNotFoundException extends ScoreBoardException {
     public MatchNotFoundException(String teamA, String teamB) {
-        super(String.format("No Match Found between team %s and team %b ", teamA, teamB));
+        super("No Match Found between team %s and team %s ", teamA, teamB);
     }
 
     public MatchNotFoundException(Integer matchId) {
-        super(String.format("No Match Found with id: %d ", matchId));
+        super("No Match Found with id: %d ", matchId);
     }
 }
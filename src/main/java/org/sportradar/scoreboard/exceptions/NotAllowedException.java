@@ -4,9 +4,22 @@ package org.sportradar.scoreboard.exceptions;
  * @author hesam.karimian
  * @created 12/05/2024
  */
-public class NotAllowedException extends RuntimeException {
+public class NotAllowedException extends ScoreBoardException {
 
     public NotAllowedException(String action, String reason) {
-        super(String.format("It is not allowed to %s when %s", action, reason));
+        super("It is not allowed to %s when %s", action, reason);
+    }
+
+    private NotAllowedException(String format, String action, String teamName) {
+        super(format, action, teamName);
+    }
+
+    /**
+     * @return the exception rejecting an action because a team is already playing another match, without building
+     * its message until it is asked for.
+     */
+    public static NotAllowedException teamAlreadyPlaying(String action, String teamName) {
+        return new NotAllowedException("It is not allowed to %s when %s is already playing with another team",
+                action, teamName);
     }
 }
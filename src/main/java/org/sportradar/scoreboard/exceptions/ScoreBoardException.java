@@ -0,0 +1,48 @@
+package org.sportradar.scoreboard.exceptions;
+
+/**
+ * Base of the exceptions rejecting a score board command.
+ * <p>
+ * The message is only formatted when it is asked for. When stack traces are disabled, either by
+ * {@link #setStackTraceEnabled(boolean)} or by starting the JVM with {@code -Dscoreboard.exceptions.stackless=true},
+ * new exceptions skip filling in their stack trace, which makes rejecting a command about as cheap as creating a
+ * small object.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public abstract class ScoreBoardException extends RuntimeException {
+
+    private static volatile boolean stackTraceEnabled = !Boolean.getBoolean("scoreboard.exceptions.stackless");
+
+    private final String format;
+    private final Object[] arguments;
+    private String message;
+
+    protected ScoreBoardException(String format, Object... arguments) {
+        super(null, null, stackTraceEnabled, stackTraceEnabled);
+        this.format = format;
+        this.arguments = arguments;
+    }
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * @param enabled whether exceptions created from now on capture their stack trace.
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    @Override
+    public String getMessage() {
+        String formatted = message;
+        if (formatted == null) {
+            formatted = String.format(format, arguments);
+            message = formatted;
+        }
+        return formatted;
+    }
+}
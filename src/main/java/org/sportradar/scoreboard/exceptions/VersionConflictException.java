@@ -0,0 +1,12 @@
+package org.sportradar.scoreboard.exceptions;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class VersionConflictException extends ScoreBoardException {
+
+    public VersionConflictException(Integer matchId) {
+        super("Match with id: %d was changed by another update", matchId);
+    }
+}
@@ -0,0 +1,207 @@
+package org.sportradar.scoreboard.expiry;
+
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.exceptions.MatchNotFoundException;
+import org.sportradar.scoreboard.services.ScoreBoardListener;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finishes, or flags as stale, the matches of a board which had no update for too long, for example because their
+ * feed died.
+ * <p>
+ * Registered as a {@link ScoreBoardListener}, it gives every match an inactivity deadline when it starts and
+ * pushes the deadline back on every score update. Deadlines are kept in a {@link TimingWheel}, so hundreds of
+ * thousands of matches cost O(1) per start, update and finish, and {@link #expire()} only touches the matches
+ * which are due instead of scanning the board. An expired match is finished through
+ * {@link ScoreBoardService#tryFinishMatch(Integer)}, hence it leaves the board exactly like a match finished by its
+ * feed, listeners included; an update arriving while the match is being expired may not save it.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class MatchExpiry implements ScoreBoardListener, AutoCloseable {
+
+    private static final Duration DEFAULT_TICK = Duration.ofSeconds(1);
+
+    /**
+     * What happens to a match past its inactivity deadline.
+     */
+    public enum Action {
+        /**
+         * The match is finished.
+         */
+        FINISH,
+        /**
+         * The match stays on the board and is reported by {@link #getStaleMatchIds()} until it is updated or
+         * finished.
+         */
+        FLAG
+    }
+
+    private final ScoreBoardService scoreBoardService;
+    private final Duration inactivityTimeout;
+    private final Action action;
+    private final Clock clock;
+    private final Duration tick;
+    private final TimingWheel wheel;
+    private final Map<Integer, Long> timeoutsByMatch = new HashMap<>();
+    private final Set<Integer> staleMatchIds = ConcurrentHashMap.newKeySet();
+    private ScheduledFuture<?> task;
+
+    public MatchExpiry(ScoreBoardService scoreBoardService, Duration inactivityTimeout, Action action) {
+        this(scoreBoardService, inactivityTimeout, action, DEFAULT_TICK, Clock.systemUTC());
+    }
+
+    /**
+     * Creates the expiry of the matches of a service. It still has to be registered as a listener of the service.
+     *
+     * @param scoreBoardService the service whose matches expire.
+     * @param inactivityTimeout how long a match may go without an update, {@code null} to only expire the matches
+     *                          given a timeout with {@link #expireAfter(int, Duration)}.
+     * @param action            what happens to an expired match.
+     * @param tick              precision of the deadlines, a match expires at most one tick late.
+     * @param clock             tells the time of the deadlines.
+     */
+    public MatchExpiry(ScoreBoardService scoreBoardService, Duration inactivityTimeout, Action action,
+                       Duration tick, Clock clock) {
+        if (inactivityTimeout != null && (inactivityTimeout.isNegative() || inactivityTimeout.isZero())) {
+            throw new IllegalArgumentException("Inactivity timeout should be a positive duration.");
+        }
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("Tick should be at least a millisecond.");
+        }
+        this.scoreBoardService = scoreBoardService;
+        this.inactivityTimeout = inactivityTimeout;
+        this.action = action;
+        this.clock = clock;
+        this.tick = tick;
+        this.wheel = new TimingWheel(tick.toMillis(), clock.millis());
+    }
+
+    /**
+     * Runs {@link #expire()} on the executor once every tick, until the expiry is closed.
+     */
+    public synchronized void start(ScheduledExecutorService executor) {
+        if (task != null) {
+            throw new IllegalStateException("Match expiry is already started.");
+        }
+        long period = tick.toMillis();
+        task = executor.scheduleAtFixedRate(this::expire, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gives a match its own inactivity timeout, counted from now and from each of its next updates.
+     *
+     * @param matchId id of an ongoing match.
+     * @param timeout how long the match may go without an update, {@code null} to never expire it.
+     * @throws MatchNotFoundException if no ongoing match has that id, as it would never be finished.
+     */
+    public void expireAfter(int matchId, Duration timeout) {
+        synchronized (wheel) {
+            // checked under the lock of onMatchFinished, so a match finishing now is either rejected or cleaned up
+            if (scoreBoardService.getMatch(matchId).isEmpty()) {
+                throw new MatchNotFoundException(matchId);
+            }
+            if (timeout == null) {
+                timeoutsByMatch.put(matchId, null);
+                wheel.cancel(matchId);
+            } else {
+                timeoutsByMatch.put(matchId, timeout.toMillis());
+                wheel.schedule(matchId, clock.millis() + timeout.toMillis());
+            }
+        }
+    }
+
+    @Override
+    public void onMatchStarted(Match match) {
+        refresh(match.id());
+    }
+
+    @Override
+    public void onScoreUpdated(Match previous, Match updated) {
+        refresh(updated.id());
+    }
+
+    @Override
+    public void onMatchFinished(Match match) {
+        synchronized (wheel) {
+            wheel.cancel(match.id());
+            timeoutsByMatch.remove(match.id());
+            staleMatchIds.remove(match.id());
+        }
+    }
+
+    /**
+     * Finishes or flags the matches whose deadline passed.
+     *
+     * @return number of matches which expired.
+     */
+    public int expire() {
+        List<Integer> expired = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(clock.millis(), expired::add);
+            if (action == Action.FLAG) {
+                staleMatchIds.addAll(expired);
+                return expired.size();
+            }
+        }
+        for (Integer matchId : expired) {
+            if (!isScheduled(matchId)) {
+                scoreBoardService.tryFinishMatch(matchId);
+            }
+        }
+        return expired.size();
+    }
+
+    /**
+     * @return ids of the matches flagged as stale, when expired matches are flagged.
+     */
+    public Set<Integer> getStaleMatchIds() {
+        return Set.copyOf(staleMatchIds);
+    }
+
+    /**
+     * @return number of matches having an inactivity deadline.
+     */
+    public int getScheduledCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    private boolean isScheduled(int matchId) {
+        synchronized (wheel) {
+            return wheel.contains(matchId);
+        }
+    }
+
+    private void refresh(int matchId) {
+        synchronized (wheel) {
+            staleMatchIds.remove(matchId);
+            Long timeout = timeoutsByMatch.containsKey(matchId) ? timeoutsByMatch.get(matchId)
+                    : inactivityTimeout == null ? null : inactivityTimeout.toMillis();
+            if (timeout != null) {
+                wheel.schedule(matchId, clock.millis() + timeout);
+            }
+        }
+    }
+}
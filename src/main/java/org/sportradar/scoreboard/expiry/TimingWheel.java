@@ -0,0 +1,185 @@
+package org.sportradar.scoreboard.expiry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * A hierarchical timing wheel of deadlines keyed by match id.
+ * <p>
+ * Time is cut into ticks and every level is a ring of 64 buckets, a bucket of level l spanning 64^l ticks, so four
+ * levels cover about 16.7 million ticks; a later deadline is parked in the last level and placed again once it
+ * comes closer. A timer sits in the bucket of the lowest level its deadline fits in, as an entry of a doubly linked
+ * list, so scheduling, refreshing and cancelling a timer is O(1). Advancing by one tick fires the bucket of the
+ * tick in the first level and, once every 64^l ticks, moves the timers of the next bucket of level l down to the
+ * lower levels, so advancing never looks at a timer which is not due or about to be.
+ * <p>
+ * Not thread safe.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+final class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY_TICKS = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final Timer[][] buckets = new Timer[LEVELS][SLOTS];
+    private final Map<Integer, Timer> timers = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis  length of a tick, timers fire at most one tick late.
+     * @param startMillis current time.
+     */
+    TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules the timer of a match, replacing its previous deadline if it has one.
+     */
+    void schedule(int matchId, long deadlineMillis) {
+        Timer timer = timers.get(matchId);
+        if (timer == null) {
+            timer = new Timer(matchId);
+            timers.put(matchId, timer);
+        } else {
+            unlink(timer);
+        }
+        timer.deadlineTick = Math.floorDiv(deadlineMillis, tickMillis)
+                + (Math.floorMod(deadlineMillis, tickMillis) == 0 ? 0 : 1);
+        link(timer);
+    }
+
+    /**
+     * @return {@code false} if the match had no timer.
+     */
+    boolean cancel(int matchId) {
+        Timer timer = timers.remove(matchId);
+        if (timer == null) {
+            return false;
+        }
+        unlink(timer);
+        return true;
+    }
+
+    boolean contains(int matchId) {
+        return timers.containsKey(matchId);
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    /**
+     * Moves the wheel to the given time and removes the timers due by then, never before their deadline.
+     *
+     * @param expired told the match id of every timer which fired, it must not change the wheel.
+     */
+    void advance(long nowMillis, IntConsumer expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick <= targetTick) {
+            if (timers.isEmpty()) {
+                currentTick = targetTick + 1;
+                return;
+            }
+            long tick = currentTick;
+            cascade(tick);
+            int slot = (int) (tick & SLOT_MASK);
+            Timer timer = buckets[0][slot];
+            buckets[0][slot] = null;
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.next = null;
+                timer.previous = null;
+                if (timer.deadlineTick <= tick) {
+                    timers.remove(timer.matchId);
+                    expired.accept(timer.matchId);
+                } else {
+                    link(timer);
+                }
+                timer = next;
+            }
+            currentTick++;
+        }
+    }
+
+    /**
+     * Moves the timers of the buckets of the higher levels starting at this tick down to the lower levels.
+     */
+    private void cascade(long tick) {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((tick >> (SLOT_BITS * level)) & SLOT_MASK);
+            Timer timer = buckets[level][slot];
+            buckets[level][slot] = null;
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.next = null;
+                timer.previous = null;
+                link(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void link(Timer timer) {
+        long tick = timer.deadlineTick;
+        long delay = tick - currentTick;
+        if (delay < 0) {
+            tick = currentTick;
+            delay = 0;
+        } else if (delay >= MAX_DELAY_TICKS) {
+            tick = currentTick + MAX_DELAY_TICKS - 1;
+            delay = MAX_DELAY_TICKS - 1;
+        }
+        int level = 0;
+        while (delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((tick >> (SLOT_BITS * level)) & SLOT_MASK);
+        Timer head = buckets[level][slot];
+        timer.level = level;
+        timer.slot = slot;
+        timer.next = head;
+        if (head != null) {
+            head.previous = timer;
+        }
+        buckets[level][slot] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.previous == null) {
+            buckets[timer.level][timer.slot] = timer.next;
+        } else {
+            timer.previous.next = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    private static final class Timer {
+
+        private final int matchId;
+        private long deadlineTick;
+        private int level;
+        private int slot;
+        private Timer previous;
+        private Timer next;
+
+        Timer(int matchId) {
+            this.matchId = matchId;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.sportradar.scoreboard.journal;
+
+import org.sportradar.scoreboard.entities.Match;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * A single change of the board as stored in the journal.
+ * <p>
+ * On disk a record is framed as {@code [int body length][int CRC32 of body][body]}, and the body starts with the
+ * type and the match id. A started match carries both team names, scores and the match version, a score update
+ * carries the new scores and version and a checkpoint carries the last allocated match id in place of a match id.
+ * Scores and versions are absolute, so applying a record twice gives the same board. Records written before
+ * versions were journaled end right after the scores and are read back with {@link #UNKNOWN_VERSION}.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record JournalRecord(Type type, int matchId, String homeTeamName, String awayTeamName,
+                            int homeTeamScore, int awayTeamScore, int version) {
+
+    public static final int UNKNOWN_VERSION = -1;
+    public static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+    /**
+     * Size of the largest framed record, a started match with the longest team names.
+     */
+    public static final int MAX_SIZE = HEADER_SIZE + 1 + Integer.BYTES + 2 * (Short.BYTES + MAX_NAME_BYTES)
+            + 3 * Integer.BYTES;
+
+    public enum Type {
+        STARTED, SCORE_UPDATED, FINISHED, CHECKPOINT;
+
+        private static final Type[] VALUES = values();
+    }
+
+    public static JournalRecord started(Match match) {
+        return new JournalRecord(Type.STARTED, match.id(), match.getHomeTeamName(), match.getAwayTeamName(),
+                match.getHomeTeamScore(), match.getAwayTeamScore(), match.getVersion());
+    }
+
+    public static JournalRecord scoreUpdated(Match match) {
+        return new JournalRecord(Type.SCORE_UPDATED, match.id(), null, null,
+                match.getHomeTeamScore(), match.getAwayTeamScore(), match.getVersion());
+    }
+
+    public static JournalRecord finished(Match match) {
+        return new JournalRecord(Type.FINISHED, match.id(), null, null, 0, 0, UNKNOWN_VERSION);
+    }
+
+    public static JournalRecord checkpoint(int lastMatchId) {
+        return new JournalRecord(Type.CHECKPOINT, lastMatchId, null, null, 0, 0, UNKNOWN_VERSION);
+    }
+
+    /**
+     * @return the match a started record describes, a match of unknown version as if every goal was a separate
+     * update.
+     */
+    public Match toMatch() {
+        return Match.getNewMatch(Match.getNewMatch(matchId, homeTeamName, awayTeamName), homeTeamScore, awayTeamScore,
+                version == UNKNOWN_VERSION ? homeTeamScore + awayTeamScore : version);
+    }
+
+    /**
+     * @return the given match with the scores and version of a score update record, one version past the given
+     * match if the record has no version.
+     */
+    public Match applyTo(Match match) {
+        if (version == UNKNOWN_VERSION) {
+            return Match.getNewMatch(match, homeTeamScore, awayTeamScore);
+        }
+        return Match.getNewMatch(match, homeTeamScore, awayTeamScore, version);
+    }
+
+    /**
+     * @return {@code true} if a score update record describes an older version of the given match, so applying it
+     * would move the match backwards. The updates of a match in one batch share a version and are applied in
+     * order, a record without version is never older.
+     */
+    public boolean isOlderThan(Match match) {
+        return version != UNKNOWN_VERSION && version < match.getVersion();
+    }
+
+    /**
+     * Writes the framed record at the position of the buffer.
+     *
+     * @return {@code false}, leaving the buffer untouched, if the buffer has not enough room for the record.
+     */
+    public boolean writeTo(ByteBuffer buffer) {
+        byte[] home = type == Type.STARTED ? encodeName(homeTeamName) : null;
+        byte[] away = type == Type.STARTED ? encodeName(awayTeamName) : null;
+        int bodySize = 1 + Integer.BYTES + switch (type) {
+            case STARTED -> 2 * Short.BYTES + home.length + away.length + 3 * Integer.BYTES;
+            case SCORE_UPDATED -> 3 * Integer.BYTES;
+            case FINISHED, CHECKPOINT -> 0;
+        };
+        if (buffer.remaining() < HEADER_SIZE + bodySize) {
+            return false;
+        }
+        int start = buffer.position();
+        buffer.position(start + HEADER_SIZE);
+        buffer.put((byte) type.ordinal()).putInt(matchId);
+        if (type == Type.STARTED) {
+            buffer.putShort((short) home.length).put(home).putShort((short) away.length).put(away);
+        }
+        if (type == Type.STARTED || type == Type.SCORE_UPDATED) {
+            buffer.putInt(homeTeamScore).putInt(awayTeamScore).putInt(version);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(start + HEADER_SIZE, bodySize));
+        buffer.putInt(start, bodySize).putInt(start + Integer.BYTES, (int) crc.getValue());
+        return true;
+    }
+
+    /**
+     * Reads the framed record at the position of the buffer and moves past it.
+     *
+     * @return {@code null}, leaving the buffer position untouched, if the buffer ends before the record does or the
+     * record is corrupt, which is what a write torn by a crash looks like.
+     */
+    public static JournalRecord readFrom(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE) {
+            return null;
+        }
+        int bodySize = buffer.getInt(start);
+        int checksum = buffer.getInt(start + Integer.BYTES);
+        if (bodySize < 1 + Integer.BYTES || bodySize > buffer.remaining() - HEADER_SIZE) {
+            return null;
+        }
+        ByteBuffer body = buffer.slice(start + HEADER_SIZE, bodySize);
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        int typeIndex = body.get(0);
+        if ((int) crc.getValue() != checksum || typeIndex < 0 || typeIndex >= Type.VALUES.length) {
+            return null;
+        }
+        Type type = Type.VALUES[typeIndex];
+        body.position(1);
+        int matchId = body.getInt();
+        String home = null;
+        String away = null;
+        int homeScore = 0;
+        int awayScore = 0;
+        int version = UNKNOWN_VERSION;
+        if (type == Type.STARTED) {
+            home = decodeName(body);
+            away = decodeName(body);
+        }
+        if (type == Type.STARTED || type == Type.SCORE_UPDATED) {
+            homeScore = body.getInt();
+            awayScore = body.getInt();
+            if (body.remaining() >= Integer.BYTES) {
+                version = body.getInt();
+            }
+        }
+        buffer.position(start + HEADER_SIZE + bodySize);
+        return new JournalRecord(type, matchId, home, away, homeScore, awayScore, version);
+    }
+
+    /**
+     * Tells whether the bytes left in a buffer, where {@link #readFrom(ByteBuffer)} found no valid record, are what
+     * an append cut short by a crash leaves at the end of a file: part of a header, a record of a possible length
+     * reaching the end of the buffer or past it, or zeros of space allocated but never written. Anything else is a
+     * corrupt record followed by more data.
+     */
+    public static boolean isTornTail(ByteBuffer buffer) {
+        int start = buffer.position();
+        int remaining = buffer.remaining();
+        if (remaining < HEADER_SIZE) {
+            return true;
+        }
+        int bodySize = buffer.getInt(start);
+        if (bodySize >= 1 + Integer.BYTES && bodySize <= MAX_SIZE - HEADER_SIZE) {
+            return bodySize >= remaining - HEADER_SIZE;
+        }
+        for (int i = start; i < buffer.limit(); i++) {
+            if (buffer.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] encodeName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Team Name is too long to be journaled.");
+        }
+        return bytes;
+    }
+
+    private static String decodeName(ByteBuffer body) {
+        int length = Short.toUnsignedInt(body.getShort());
+        byte[] bytes = new byte[length];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
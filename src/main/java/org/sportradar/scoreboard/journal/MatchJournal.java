@@ -0,0 +1,530 @@
+package org.sportradar.scoreboard.journal;
+
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.services.ScoreBoardListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * An append-only journal of the changes applied to a board, used to rebuild the board after a restart.
+ * <p>
+ * Registered as a {@link ScoreBoardListener}, the journal encodes every change into an in-memory buffer. A
+ * background thread writes the buffer to the journal file and forces it to disk every flush interval, so many
+ * changes share one write and one fsync (group commit); a crash loses at most the changes of the last interval.
+ * A full buffer is handed to the background thread and appending goes on in a spare one; only once
+ * {@value #MAX_PENDING_BUFFERS} full buffers wait for the disk does appending wait for one of them to be written.
+ * <p>
+ * On {@link #open(Path, ScoreBoardDAO, Duration, long) open} the snapshot file and then the journal file are
+ * memory-mapped and replayed into plain maps, and only the matches still ongoing at the end are put on the board
+ * with a single write. A torn record at the end of the journal is cut off, while a corrupt record followed by
+ * more records fails the open rather than dropping the records after it. Once enough records were appended the
+ * journal is compacted on another background thread, which bounds the replay time: the snapshot and the journal
+ * written so far are replayed through their own file handles into a new snapshot file, which atomically replaces
+ * the old one, and the journal is replaced by the records written meanwhile. Flushing only waits for compaction
+ * while the journal is replaced.
+ * <p>
+ * A journal whose records failed to be written or forced to disk can no longer rebuild the board, so it fails for
+ * good: the failure, also one of the background thread, is rethrown by every later append, flush and close.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class MatchJournal implements ScoreBoardListener, AutoCloseable {
+
+    public static final String JOURNAL_FILE = "matches.journal";
+    public static final String SNAPSHOT_FILE = "matches.snapshot";
+
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(10);
+    private static final long DEFAULT_COMPACTION_THRESHOLD = 1_000_000;
+    private static final int BUFFER_SIZE = 1 << 18;
+    private static final int MAX_PENDING_BUFFERS = 4;
+    private static final long MAX_MAPPED_REGION = 1L << 30;
+
+    private final Path journalFile;
+    private final Path snapshotFile;
+    private final ChannelOpener channelOpener;
+    private final long compactionThreshold;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Condition bufferWritten = appendLock.newCondition();
+    private final Queue<ByteBuffer> fullBuffers = new ArrayDeque<>();
+    private final Queue<ByteBuffer> spareBuffers = new ArrayDeque<>();
+    private final Object flushLock = new Object();
+    private final Object compactionLock = new Object();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService flusher;
+    private final ExecutorService compactor;
+    private FileChannel channel;
+    private ByteBuffer activeBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long recordsSinceCompaction;
+    private volatile RuntimeException failure;
+
+    private MatchJournal(Path directory, long compactionThreshold, long recoveredRecords, Duration flushInterval,
+                         ChannelOpener channelOpener) throws IOException {
+        this.journalFile = directory.resolve(JOURNAL_FILE);
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.channelOpener = channelOpener;
+        this.compactionThreshold = compactionThreshold;
+        this.recordsSinceCompaction = recoveredRecords;
+        this.channel = channelOpener.open(journalFile);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable,
+                "scoreboard-journal-flusher"));
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> daemon(runnable,
+                "scoreboard-journal-compactor"));
+        long intervalNanos = flushInterval.toNanos();
+        flusher.scheduleWithFixedDelay(this::flushInBackground, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static MatchJournal open(Path directory, ScoreBoardDAO scoreBoardDAO) {
+        return open(directory, scoreBoardDAO, DEFAULT_FLUSH_INTERVAL, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Rebuilds the board from the snapshot and journal files in the directory and opens the journal for appending.
+     * The returned journal still has to be registered as a listener of the service owning the DAO.
+     *
+     * @param directory           directory of the journal and snapshot files, created if missing.
+     * @param scoreBoardDAO       an empty board to restore the recovered matches into.
+     * @param flushInterval       how often appended records are written and forced to disk.
+     * @param compactionThreshold number of journal records after which the journal is compacted into the snapshot.
+     * @throws UncheckedIOException if the files cannot be read or hold a corrupt record before their end.
+     */
+    public static MatchJournal open(Path directory, ScoreBoardDAO scoreBoardDAO, Duration flushInterval,
+                                    long compactionThreshold) {
+        return open(directory, scoreBoardDAO, flushInterval, compactionThreshold, file -> FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Opens the journal like {@link #open(Path, ScoreBoardDAO, Duration, long)}, with the channel appending to the
+     * journal file opened by the given opener.
+     */
+    static MatchJournal open(Path directory, ScoreBoardDAO scoreBoardDAO, Duration flushInterval,
+                             long compactionThreshold, ChannelOpener channelOpener) {
+        try {
+            Files.createDirectories(directory);
+            BoardState state = new BoardState();
+            replay(directory.resolve(SNAPSHOT_FILE), state);
+            long snapshotRecords = state.records;
+            replay(directory.resolve(JOURNAL_FILE), state);
+            scoreBoardDAO.restoreAll(state.ongoingMatches(), state.lastMatchId);
+            return new MatchJournal(directory, compactionThreshold, state.records - snapshotRecords, flushInterval,
+                    channelOpener);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onMatchStarted(Match match) {
+        append(JournalRecord.started(match));
+    }
+
+    @Override
+    public void onScoreUpdated(Match previous, Match updated) {
+        append(JournalRecord.scoreUpdated(updated));
+    }
+
+    @Override
+    public void onMatchFinished(Match match) {
+        append(JournalRecord.finished(match));
+    }
+
+    /**
+     * Writes all appended records to the journal file and forces them to disk.
+     *
+     * @throws UncheckedIOException if this or an earlier flush failed to write or force the records.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            throwIfFailed();
+            List<ByteBuffer> pending = takePendingBuffers();
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                for (ByteBuffer buffer : pending) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                fail(new UncheckedIOException("Failed to flush the journal.", e));
+                throw failure;
+            } finally {
+                recycle(pending);
+            }
+        }
+    }
+
+    /**
+     * Replays the snapshot and the journal into a new snapshot file holding only the ongoing matches, and empties
+     * the journal. Records appended meanwhile are flushed as usual and kept in the emptied journal.
+     */
+    public void compact() {
+        synchronized (compactionLock) {
+            long compactedRecords;
+            long compactedSize;
+            synchronized (flushLock) {
+                appendLock.lock();
+                try {
+                    compactedRecords = recordsSinceCompaction;
+                } finally {
+                    appendLock.unlock();
+                }
+                flush();
+                compactedSize = size();
+            }
+            try {
+                BoardState state = new BoardState();
+                replay(snapshotFile, state);
+                try (FileChannel journalReader = FileChannel.open(journalFile, StandardOpenOption.READ)) {
+                    read(journalReader, compactedSize, state);
+                }
+                writeSnapshot(state);
+                synchronized (flushLock) {
+                    throwIfFailed();
+                    replaceJournal(compactedSize);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            appendLock.lock();
+            try {
+                recordsSinceCompaction -= compactedRecords;
+            } finally {
+                appendLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        awaitTermination(flusher);
+        compactor.shutdown();
+        awaitTermination(compactor);
+        synchronized (flushLock) {
+            try {
+                flush();
+            } finally {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Encodes a record into the active buffer. A full buffer is queued for the flusher and a spare one takes its
+     * place; while too many buffers wait for the disk, this waits for the flusher to write one.
+     */
+    private void append(JournalRecord journalRecord) {
+        appendLock.lock();
+        try {
+            throwIfFailed();
+            while (!journalRecord.writeTo(activeBuffer)) {
+                if (fullBuffers.size() >= MAX_PENDING_BUFFERS) {
+                    bufferWritten.awaitUninterruptibly();
+                    throwIfFailed();
+                    continue;
+                }
+                fullBuffers.add(activeBuffer);
+                activeBuffer = spareBuffer();
+                requestFlush();
+            }
+            recordsSinceCompaction++;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void requestFlush() {
+        try {
+            flusher.execute(this::flushInBackground);
+        } catch (RejectedExecutionException e) {
+            // Closing: close() flushes the full buffers itself.
+        }
+    }
+
+    /**
+     * @return the full buffers and the active one if it holds records, a spare buffer taking its place.
+     */
+    private List<ByteBuffer> takePendingBuffers() {
+        appendLock.lock();
+        try {
+            List<ByteBuffer> pending = new ArrayList<>(fullBuffers);
+            fullBuffers.clear();
+            if (activeBuffer.position() > 0) {
+                pending.add(activeBuffer);
+                activeBuffer = spareBuffer();
+            }
+            return pending;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void recycle(List<ByteBuffer> written) {
+        appendLock.lock();
+        try {
+            for (ByteBuffer buffer : written) {
+                buffer.clear();
+                spareBuffers.add(buffer);
+            }
+            bufferWritten.signalAll();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private ByteBuffer spareBuffer() {
+        ByteBuffer buffer = spareBuffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * The background flush. A failure is kept for the next append, flush or close to rethrow rather than thrown,
+     * which would silently cancel every later flush.
+     */
+    private void flushInBackground() {
+        if (failure != null) {
+            return;
+        }
+        try {
+            flush();
+            boolean compactionDue;
+            appendLock.lock();
+            try {
+                compactionDue = recordsSinceCompaction >= compactionThreshold;
+            } finally {
+                appendLock.unlock();
+            }
+            if (compactionDue && compactionScheduled.compareAndSet(false, true)) {
+                compactor.execute(this::compactInBackground);
+            }
+        } catch (RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            fail(e);
+        } finally {
+            compactionScheduled.set(false);
+        }
+    }
+
+    /**
+     * Copies the records written to the journal since the given size into a new journal file, which atomically
+     * replaces the journal, and appends to the new file from now on. Called holding the flush lock.
+     */
+    private void replaceJournal(long compactedSize) throws IOException {
+        Path temporaryFile = journalFile.resolveSibling(JOURNAL_FILE + ".tmp");
+        try (FileChannel journalReader = FileChannel.open(journalFile, StandardOpenOption.READ);
+             FileChannel temporaryChannel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = compactedSize;
+            long size = journalReader.size();
+            while (position < size) {
+                position += journalReader.transferTo(position, size - position, temporaryChannel);
+            }
+            temporaryChannel.force(true);
+        }
+        Files.move(temporaryFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel.close();
+        channel = channelOpener.open(journalFile);
+    }
+
+    private long size() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void fail(RuntimeException journalFailure) {
+        appendLock.lock();
+        try {
+            if (failure == null) {
+                failure = journalFailure;
+            }
+            bufferWritten.signalAll();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void throwIfFailed() {
+        RuntimeException journalFailure = failure;
+        if (journalFailure != null) {
+            throw journalFailure;
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeSnapshot(BoardState state) throws IOException {
+        Path temporaryFile = snapshotFile.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel snapshotChannel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            List<JournalRecord> records = new ArrayList<>();
+            records.add(JournalRecord.checkpoint(state.lastMatchId));
+            state.ongoingMatches().forEach(match -> records.add(JournalRecord.started(match)));
+            for (JournalRecord journalRecord : records) {
+                if (!journalRecord.writeTo(buffer)) {
+                    writeFully(snapshotChannel, buffer);
+                    journalRecord.writeTo(buffer);
+                }
+            }
+            writeFully(snapshotChannel, buffer);
+            snapshotChannel.force(true);
+        }
+        Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeFully(FileChannel fileChannel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            fileChannel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Applies every record of the file to the state and cuts off a record torn at its end.
+     *
+     * @throws IOException if a record before the end of the file is corrupt.
+     */
+    private static void replay(Path file, BoardState state) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = fileChannel.size();
+            long validSize = read(fileChannel, size, state);
+            if (validSize < size) {
+                fileChannel.truncate(validSize);
+                fileChannel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Applies the records of the first bytes of the file to the state, up to a record torn at the end.
+     *
+     * @return the size of the records up to the torn one.
+     * @throws IOException if a record before the end is corrupt.
+     */
+    private static long read(FileChannel fileChannel, long size, BoardState state) throws IOException {
+        long offset = 0;
+        while (offset < size) {
+            MappedByteBuffer region = fileChannel.map(FileChannel.MapMode.READ_ONLY, offset,
+                    Math.min(size - offset, MAX_MAPPED_REGION));
+            if (readAll(region, state) == 0) {
+                // A region starts at a record and holds the largest one, so only the last one can end too early.
+                if (offset + region.limit() < size || !JournalRecord.isTornTail(region)) {
+                    throw new IOException("Corrupt journal record at offset " + offset + " of " + size
+                            + " bytes, followed by more data.");
+                }
+                break;
+            }
+            offset += region.position();
+        }
+        return offset;
+    }
+
+    private static long readAll(ByteBuffer region, Consumer<JournalRecord> consumer) {
+        long records = 0;
+        JournalRecord journalRecord;
+        while ((journalRecord = JournalRecord.readFrom(region)) != null) {
+            consumer.accept(journalRecord);
+            records++;
+        }
+        return records;
+    }
+
+    /**
+     * Opens the channel appending to the journal file.
+     */
+    @FunctionalInterface
+    interface ChannelOpener {
+
+        FileChannel open(Path journalFile) throws IOException;
+    }
+
+    /**
+     * The board as rebuilt from records, kept in plain maps so a long replay never touches the live store.
+     */
+    private static final class BoardState implements Consumer<JournalRecord> {
+
+        private final Map<Integer, Match> matches = new HashMap<>();
+        private int lastMatchId;
+        private long records;
+
+        @Override
+        public void accept(JournalRecord journalRecord) {
+            records++;
+            switch (journalRecord.type()) {
+                case STARTED -> {
+                    matches.put(journalRecord.matchId(), journalRecord.toMatch());
+                    lastMatchId = Math.max(lastMatchId, journalRecord.matchId());
+                }
+                case SCORE_UPDATED -> matches.computeIfPresent(journalRecord.matchId(), (id, match) ->
+                        journalRecord.isOlderThan(match) ? match : journalRecord.applyTo(match));
+                case FINISHED -> matches.remove(journalRecord.matchId());
+                case CHECKPOINT -> lastMatchId = Math.max(lastMatchId, journalRecord.matchId());
+            }
+        }
+
+        List<Match> ongoingMatches() {
+            return matches.values().stream().sorted(Comparator.comparingInt(Match::id)).toList();
+        }
+    }
+}
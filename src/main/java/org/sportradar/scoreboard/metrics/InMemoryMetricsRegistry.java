@@ -0,0 +1,99 @@
+package org.sportradar.scoreboard.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A registry keeping its metrics in memory, counters as {@link LongAdder}s and timers as
+ * {@link LatencyHistogram}s.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    private final Map<String, CounterValue> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    @Override
+    public CounterValue counter(String name) {
+        return counters.computeIfAbsent(name, this::newCounter);
+    }
+
+    @Override
+    public LatencyHistogram timer(String name) {
+        return timers.computeIfAbsent(name, this::newTimer);
+    }
+
+    @Override
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+        onGaugeRegistered(name, value);
+    }
+
+    /**
+     * @return current value of a counter, 0 if it was never registered.
+     */
+    public long getCount(String name) {
+        CounterValue counter = counters.get(name);
+        return counter == null ? 0 : counter.getCount();
+    }
+
+    /**
+     * @return current value of a gauge.
+     * @throws IllegalArgumentException if no gauge was registered with the name.
+     */
+    public long getGauge(String name) {
+        LongSupplier gauge = gauges.get(name);
+        if (gauge == null) {
+            throw new IllegalArgumentException("No gauge registered with name: " + name);
+        }
+        return gauge.getAsLong();
+    }
+
+    public Map<String, CounterValue> getCounters() {
+        return Map.copyOf(counters);
+    }
+
+    public Map<String, LatencyHistogram> getTimers() {
+        return Map.copyOf(timers);
+    }
+
+    protected void onCounterRegistered(String name, CounterValue counter) {
+    }
+
+    protected void onTimerRegistered(String name, LatencyHistogram timer) {
+    }
+
+    protected void onGaugeRegistered(String name, LongSupplier gauge) {
+    }
+
+    private CounterValue newCounter(String name) {
+        CounterValue counter = new CounterValue();
+        onCounterRegistered(name, counter);
+        return counter;
+    }
+
+    private LatencyHistogram newTimer(String name) {
+        LatencyHistogram timer = new LatencyHistogram();
+        onTimerRegistered(name, timer);
+        return timer;
+    }
+
+    public static final class CounterValue implements Counter {
+
+        private final LongAdder count = new LongAdder();
+
+        @Override
+        public void increment() {
+            count.increment();
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+    }
+}
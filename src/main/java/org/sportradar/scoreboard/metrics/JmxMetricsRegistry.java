@@ -0,0 +1,137 @@
+package org.sportradar.scoreboard.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * An in-memory registry which also exposes every metric as an MBean named
+ * {@code <domain>:type=<Counter|Timer|Gauge>,name=<metric name>}, so it can be watched with JConsole or any JMX
+ * client.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class JmxMetricsRegistry extends InMemoryMetricsRegistry implements AutoCloseable {
+
+    public static final String DEFAULT_DOMAIN = "org.sportradar.scoreboard";
+
+    private final MBeanServer mBeanServer;
+    private final String domain;
+    private final Set<ObjectName> registered = ConcurrentHashMap.newKeySet();
+
+    public JmxMetricsRegistry() {
+        this(ManagementFactory.getPlatformMBeanServer(), DEFAULT_DOMAIN);
+    }
+
+    public JmxMetricsRegistry(MBeanServer mBeanServer, String domain) {
+        this.mBeanServer = mBeanServer;
+        this.domain = domain;
+    }
+
+    public interface CounterMXBean {
+
+        long getCount();
+    }
+
+    public interface TimerMXBean {
+
+        long getCount();
+
+        double getMeanNanos();
+
+        long getMaxNanos();
+
+        long getP50Nanos();
+
+        long getP99Nanos();
+
+        long getP999Nanos();
+    }
+
+    public interface GaugeMXBean {
+
+        long getValue();
+    }
+
+    @Override
+    protected void onCounterRegistered(String name, CounterValue counter) {
+        CounterMXBean bean = counter::getCount;
+        register("Counter", name, bean, CounterMXBean.class);
+    }
+
+    @Override
+    protected void onTimerRegistered(String name, LatencyHistogram timer) {
+        TimerMXBean bean = new TimerMXBean() {
+            @Override
+            public long getCount() {
+                return timer.getCount();
+            }
+
+            @Override
+            public double getMeanNanos() {
+                return timer.getMean();
+            }
+
+            @Override
+            public long getMaxNanos() {
+                return timer.getMax();
+            }
+
+            @Override
+            public long getP50Nanos() {
+                return timer.getValueAtPercentile(50);
+            }
+
+            @Override
+            public long getP99Nanos() {
+                return timer.getValueAtPercentile(99);
+            }
+
+            @Override
+            public long getP999Nanos() {
+                return timer.getValueAtPercentile(99.9);
+            }
+        };
+        register("Timer", name, bean, TimerMXBean.class);
+    }
+
+    @Override
+    protected void onGaugeRegistered(String name, LongSupplier gauge) {
+        GaugeMXBean bean = gauge::getAsLong;
+        register("Gauge", name, bean, GaugeMXBean.class);
+    }
+
+    /**
+     * Unregisters every MBean of this registry.
+     */
+    @Override
+    public void close() {
+        for (ObjectName objectName : registered) {
+            try {
+                mBeanServer.unregisterMBean(objectName);
+            } catch (JMException e) {
+                // already gone
+            }
+        }
+        registered.clear();
+    }
+
+    private <T> void register(String type, String name, T bean, Class<T> beanInterface) {
+        try {
+            ObjectName objectName = new ObjectName(domain + ":type=" + type + ",name=" + ObjectName.quote(name));
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(new StandardMBean(bean, beanInterface, true), objectName);
+            registered.add(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register metric " + name + " in JMX", e);
+        }
+    }
+}
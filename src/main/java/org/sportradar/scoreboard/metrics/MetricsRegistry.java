@@ -0,0 +1,45 @@
+package org.sportradar.scoreboard.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A dependency free registry of the metrics a score board reports.
+ * <p>
+ * Metrics are looked up once, when the instrumented component is created, and then recorded on the hot path, so
+ * implementations should make {@link Counter#increment()} and {@link Timer#record(long)} cheap and allocation
+ * free. Asking twice for a metric with the same name returns the same metric.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public interface MetricsRegistry {
+
+    Counter counter(String name);
+
+    Timer timer(String name);
+
+    /**
+     * Registers a value which is read whenever the metric is reported.
+     */
+    void gauge(String name, LongSupplier value);
+
+    /**
+     * @return a registry which records nothing.
+     */
+    static MetricsRegistry noop() {
+        return NoopMetricsRegistry.INSTANCE;
+    }
+
+    interface Counter {
+
+        void increment();
+    }
+
+    interface Timer {
+
+        /**
+         * @param nanos duration of one operation in nanoseconds.
+         */
+        void record(long nanos);
+    }
+}
@@ -0,0 +1,35 @@
+package org.sportradar.scoreboard.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+final class NoopMetricsRegistry implements MetricsRegistry {
+
+    static final NoopMetricsRegistry INSTANCE = new NoopMetricsRegistry();
+
+    private static final Counter COUNTER = () -> {
+    };
+    private static final Timer TIMER = nanos -> {
+    };
+
+    private NoopMetricsRegistry() {
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return COUNTER;
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return TIMER;
+    }
+
+    @Override
+    public void gauge(String name, LongSupplier value) {
+        // nothing to report
+    }
+}
@@ -0,0 +1,124 @@
+package org.sportradar.scoreboard.replication;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ReplicationTransport} between a leader and followers living in the same process, for tests and for
+ * running several boards side by side.
+ * <p>
+ * Publishing only queues the frame for every subscriber, so the leader never waits for a follower; each subscriber
+ * gets its frames in order on the given executor. An exception thrown by a subscriber is handed to the failure
+ * handler and the subscriber keeps getting the frames after the one it failed on.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class InProcessReplicationTransport implements ReplicationTransport {
+
+    private final Executor executor;
+    private final Consumer<RuntimeException> failureHandler;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder failedDeliveries = new LongAdder();
+    private volatile Supplier<ByteBuffer> snapshotSource;
+
+    public InProcessReplicationTransport() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reports subscriber failures to the uncaught exception handler of the delivering thread.
+     *
+     * @param executor delivers the frames to the subscribers.
+     */
+    public InProcessReplicationTransport(Executor executor) {
+        this(executor, InProcessReplicationTransport::reportUncaught);
+    }
+
+    /**
+     * @param executor       delivers the frames to the subscribers.
+     * @param failureHandler told about every exception thrown by a subscriber, on the delivering thread; it should
+     *                       not throw itself.
+     */
+    public InProcessReplicationTransport(Executor executor, Consumer<RuntimeException> failureHandler) {
+        this.executor = executor;
+        this.failureHandler = failureHandler;
+    }
+
+    @Override
+    public void publish(ByteBuffer frame) {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(frame.asReadOnlyBuffer());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ByteBuffer> subscriber) {
+        subscriptions.add(new Subscription(subscriber));
+    }
+
+    @Override
+    public void serveSnapshots(Supplier<ByteBuffer> snapshotSource) {
+        this.snapshotSource = snapshotSource;
+    }
+
+    @Override
+    public ByteBuffer requestSnapshot() {
+        Supplier<ByteBuffer> source = snapshotSource;
+        if (source == null) {
+            throw new IllegalStateException("No leader serves snapshots on this transport.");
+        }
+        return source.get();
+    }
+
+    /**
+     * @return number of frames a subscriber failed on.
+     */
+    public long getFailedDeliveries() {
+        return failedDeliveries.sum();
+    }
+
+    private static void reportUncaught(RuntimeException e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    private final class Subscription implements Runnable {
+
+        private final Consumer<ByteBuffer> subscriber;
+        private final Queue<ByteBuffer> frames = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        Subscription(Consumer<ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void offer(ByteBuffer frame) {
+            frames.offer(frame);
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                try {
+                    subscriber.accept(frames.poll());
+                } catch (RuntimeException e) {
+                    failedDeliveries.increment();
+                    failureHandler.accept(e);
+                }
+            } while (pending.decrementAndGet() != 0);
+        }
+    }
+}
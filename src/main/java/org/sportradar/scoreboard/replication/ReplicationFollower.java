@@ -0,0 +1,153 @@
+package org.sportradar.scoreboard.replication;
+
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.SummarySnapshot;
+import org.sportradar.scoreboard.journal.JournalRecord;
+import org.sportradar.scoreboard.snapshot.BoardSnapshotCodec;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A read-only copy of a leader's board, kept up to date from a {@link ReplicationTransport}.
+ * <p>
+ * On {@link #start()} the follower subscribes, catches up from a snapshot of the leader and then applies the
+ * changes it received meanwhile which are newer than the snapshot. The leader publishes the changes in the order it
+ * applied them and snapshots are taken between two changes, so the follower applies every change exactly as it
+ * was made, matches with their versions, and skips only changes it already has: a frame delivered again and a
+ * score update older than the state of its match. A change which does not fit the board of the follower means the
+ * copy diverged and is reported as an {@link IllegalStateException}. The summary is served from the local board,
+ * which is at most the transport's delivery delay behind the leader; {@link #awaitSequence(long, Duration)} lets
+ * a caller wait for a change it knows was made.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class ReplicationFollower {
+
+    private final ScoreBoardDAO scoreBoardDAO;
+    private final ReplicationTransport transport;
+    private final Object lock = new Object();
+    private List<ByteBuffer> framesDuringCatchUp;
+    private long appliedSequence;
+
+    /**
+     * @param transport where the changes of the leader come from.
+     */
+    public ReplicationFollower(ReplicationTransport transport) {
+        this.scoreBoardDAO = ScoreBoardDAO.withSnapshots();
+        this.transport = transport;
+    }
+
+    /**
+     * Subscribes to the leader and catches up from its snapshot.
+     */
+    public void start() {
+        synchronized (lock) {
+            framesDuringCatchUp = new ArrayList<>();
+        }
+        transport.subscribe(this::receive);
+        ByteBuffer snapshot = transport.requestSnapshot();
+        synchronized (lock) {
+            appliedSequence = snapshot.getLong();
+            BoardSnapshotCodec.restore(snapshot, scoreBoardDAO);
+            RuntimeException failure = null;
+            for (ByteBuffer frame : framesDuringCatchUp) {
+                try {
+                    apply(frame);
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            framesDuringCatchUp = null;
+            lock.notifyAll();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    public List<Match> getSummary() {
+        return scoreBoardDAO.findByAll();
+    }
+
+    public SummarySnapshot getSummarySnapshot() {
+        return scoreBoardDAO.findSummarySnapshot();
+    }
+
+    /**
+     * @return number of the last change of the leader applied to this copy.
+     */
+    public long getAppliedSequence() {
+        synchronized (lock) {
+            return appliedSequence;
+        }
+    }
+
+    /**
+     * Waits until the change with the given number of the leader is applied to this copy.
+     *
+     * @return {@code false} if the timeout elapsed first.
+     */
+    public boolean awaitSequence(long sequence, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (lock) {
+            while (appliedSequence < sequence || framesDuringCatchUp != null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                lock.wait(remaining / 1_000_000, (int) (remaining % 1_000_000));
+            }
+            return true;
+        }
+    }
+
+    private void receive(ByteBuffer frame) {
+        synchronized (lock) {
+            if (framesDuringCatchUp != null) {
+                framesDuringCatchUp.add(frame);
+            } else {
+                apply(frame);
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void apply(ByteBuffer frame) {
+        long sequence = frame.getLong(0);
+        if (sequence <= appliedSequence) {
+            return;
+        }
+        JournalRecord journalRecord = JournalRecord.readFrom(frame.position(Long.BYTES));
+        if (journalRecord == null) {
+            throw new IllegalArgumentException("Corrupt replication frame " + sequence);
+        }
+        int matchId = journalRecord.matchId();
+        Match current = scoreBoardDAO.findById(matchId).orElse(null);
+        boolean applied = switch (journalRecord.type()) {
+            case STARTED -> current == null
+                    && scoreBoardDAO.restoreAll(List.of(journalRecord.toMatch()), matchId);
+            case SCORE_UPDATED -> {
+                if (current != null && !journalRecord.isOlderThan(current)) {
+                    scoreBoardDAO.save(journalRecord.applyTo(current));
+                }
+                yield current != null;
+            }
+            case FINISHED -> current != null && scoreBoardDAO.delete(current).isPresent();
+            case CHECKPOINT -> true;
+        };
+        if (!applied) {
+            throw new IllegalStateException("Replication frame " + sequence + " does not fit the board, "
+                    + journalRecord.type() + " of match " + matchId);
+        }
+        appliedSequence = sequence;
+    }
+}
@@ -0,0 +1,78 @@
+package org.sportradar.scoreboard.replication;
+
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.journal.JournalRecord;
+import org.sportradar.scoreboard.services.ScoreBoardListener;
+import org.sportradar.scoreboard.snapshot.BoardSnapshotCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Streams the changes applied to a board to the followers on a {@link ReplicationTransport}.
+ * <p>
+ * Registered as a listener of the service owning the board, the leader numbers every change and publishes it in
+ * the journal record format. Listeners are told about the changes of a match, and about a team moving on to a new
+ * match, in the order they were applied, so the numbers order every change after the changes it depends on, and a
+ * follower applying them by number rebuilds the same board. A follower catches up from a snapshot which is taken
+ * while holding the write order of the whole board, between two changes and together with the number of the last
+ * published change, so the follower knows exactly which of the changes it received meanwhile are already in it.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class ReplicationLeader implements ScoreBoardListener {
+
+    private final ScoreBoardDAO scoreBoardDAO;
+    private final ReplicationTransport transport;
+    private final ByteBuffer scratch = ByteBuffer.allocate(Long.BYTES + JournalRecord.MAX_SIZE);
+    private long sequence;
+
+    /**
+     * @param scoreBoardDAO the board, used to take snapshots.
+     * @param transport     where the changes are published and the snapshots served.
+     */
+    public ReplicationLeader(ScoreBoardDAO scoreBoardDAO, ReplicationTransport transport) {
+        this.scoreBoardDAO = scoreBoardDAO;
+        this.transport = transport;
+        transport.serveSnapshots(this::snapshot);
+    }
+
+    @Override
+    public void onMatchStarted(Match match) {
+        publish(JournalRecord.started(match));
+    }
+
+    @Override
+    public void onScoreUpdated(Match previous, Match updated) {
+        publish(JournalRecord.scoreUpdated(updated));
+    }
+
+    @Override
+    public void onMatchFinished(Match match) {
+        publish(JournalRecord.finished(match));
+    }
+
+    /**
+     * @return number of the last published change.
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    private synchronized void publish(JournalRecord journalRecord) {
+        scratch.clear().putLong(++sequence);
+        journalRecord.writeTo(scratch);
+        ByteBuffer frame = ByteBuffer.allocate(scratch.position()).put(scratch.flip());
+        transport.publish(frame.flip());
+    }
+
+    private ByteBuffer snapshot() {
+        return scoreBoardDAO.inWriteOrder(() -> {
+            synchronized (this) {
+                ByteBuffer board = BoardSnapshotCodec.encode(scoreBoardDAO);
+                return ByteBuffer.allocate(Long.BYTES + board.remaining()).putLong(sequence).put(board).flip();
+            }
+        });
+    }
+}
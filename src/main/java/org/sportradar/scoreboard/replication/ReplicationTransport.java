@@ -0,0 +1,39 @@
+package org.sportradar.scoreboard.replication;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Carries the replication stream from a {@link ReplicationLeader} to its {@link ReplicationFollower}s.
+ * <p>
+ * A frame is {@code [long sequence][journal record]}, see {@link org.sportradar.scoreboard.journal.JournalRecord},
+ * and a snapshot is {@code [long sequence][board snapshot]}, see
+ * {@link org.sportradar.scoreboard.snapshot.BoardSnapshotCodec}. A transport delivers the frames to every
+ * subscriber in the order they were published, and may deliver a frame more than once.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public interface ReplicationTransport {
+
+    /**
+     * Sends a frame to every subscriber. Called by the leader, one frame at a time.
+     */
+    void publish(ByteBuffer frame);
+
+    /**
+     * Registers a follower for the frames published from now on.
+     */
+    void subscribe(Consumer<ByteBuffer> subscriber);
+
+    /**
+     * Registers the leader as the source of the snapshots followers catch up from.
+     */
+    void serveSnapshots(Supplier<ByteBuffer> snapshotSource);
+
+    /**
+     * @return the current snapshot of the leader, for a follower to catch up from.
+     */
+    ByteBuffer requestSnapshot();
+}
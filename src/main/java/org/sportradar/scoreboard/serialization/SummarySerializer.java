@@ -0,0 +1,299 @@
+package org.sportradar.scoreboard.serialization;
+
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Writes the summary of a board straight into an {@link OutputStream} or a {@link ByteBuffer}, as JSON or in a
+ * compact binary format, without building the summary list.
+ * <p>
+ * JSON: {@code [{"id":1,"homeTeam":"Mexico","awayTeam":"Canada","homeScore":0,"awayScore":5},...]}.
+ * <p>
+ * Binary, big endian:
+ * <pre>
+ * int   magic "SBSM"
+ * short format version
+ * per match in summary order:
+ *       [int id][unsigned short byte length][UTF-8 home name][unsigned short byte length][UTF-8 away name]
+ *       [int home score][int away score]
+ * int   0, ends the matches
+ * </pre>
+ * The encoded bytes of every team name, quoted and escaped for JSON and length-prefixed for the binary format,
+ * are cached, and numbers are written digit by digit, so serializing the summary allocates nothing per match.
+ * Streams are written through a buffer kept per thread.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class SummarySerializer {
+
+    public static final int MAGIC = 0x5342534D;
+    public static final short FORMAT_VERSION = 1;
+
+    private static final int MAX_CACHED_NAMES = 1 << 16;
+    private static final int STREAM_BUFFER_SIZE = 8192;
+    private static final byte[] ID = bytes("{\"id\":");
+    private static final byte[] HOME_TEAM = bytes(",\"homeTeam\":");
+    private static final byte[] AWAY_TEAM = bytes(",\"awayTeam\":");
+    private static final byte[] HOME_SCORE = bytes(",\"homeScore\":");
+    private static final byte[] AWAY_SCORE = bytes(",\"awayScore\":");
+    private static final byte[] HEX_DIGITS = bytes("0123456789abcdef");
+
+    private final ScoreBoardDAO scoreBoardDAO;
+    private final ConcurrentMap<String, EncodedName> names = new ConcurrentHashMap<>();
+    private final ThreadLocal<ByteBuffer> streamBuffers =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(STREAM_BUFFER_SIZE));
+
+    /**
+     * @param scoreBoardDAO the board whose summary is written.
+     */
+    public SummarySerializer(ScoreBoardDAO scoreBoardDAO) {
+        this.scoreBoardDAO = scoreBoardDAO;
+    }
+
+    public void writeJson(OutputStream stream) throws IOException {
+        try {
+            writeJson(new Output(streamBuffers.get().clear(), stream));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes the summary as JSON at the position of the buffer.
+     *
+     * @throws BufferOverflowException if the buffer is too small, its content is then undefined.
+     */
+    public void writeJson(ByteBuffer buffer) {
+        writeJson(new Output(buffer, null));
+    }
+
+    public void writeBinary(OutputStream stream) throws IOException {
+        try {
+            writeBinary(new Output(streamBuffers.get().clear(), stream));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes the summary in the binary format at the position of the buffer.
+     *
+     * @throws BufferOverflowException if the buffer is too small, its content is then undefined.
+     */
+    public void writeBinary(ByteBuffer buffer) {
+        writeBinary(new Output(buffer, null));
+    }
+
+    /**
+     * Reads a summary written in the binary format.
+     *
+     * @throws IllegalArgumentException if the buffer does not hold a whole summary in a known format.
+     */
+    public static List<Match> readBinary(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES + Short.BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Buffer does not hold a score board summary.");
+        }
+        short formatVersion = buffer.getShort();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported summary format version: " + formatVersion);
+        }
+        List<Match> matches = new ArrayList<>();
+        int id;
+        while ((id = readInt(buffer)) != 0) {
+            Match match = Match.getNewMatch(id, readName(buffer), readName(buffer));
+            matches.add(Match.getNewMatch(match, readInt(buffer), readInt(buffer)));
+        }
+        return matches;
+    }
+
+    private void writeJson(Output output) {
+        output.put((byte) '[');
+        boolean first = true;
+        for (Match match : scoreBoardDAO.findSummaryView()) {
+            if (!first) {
+                output.put((byte) ',');
+            }
+            first = false;
+            output.put(ID);
+            output.putDigits(match.id());
+            output.put(HOME_TEAM);
+            output.put(encoded(match.getHomeTeamName()).json);
+            output.put(AWAY_TEAM);
+            output.put(encoded(match.getAwayTeamName()).json);
+            output.put(HOME_SCORE);
+            output.putDigits(match.getHomeTeamScore());
+            output.put(AWAY_SCORE);
+            output.putDigits(match.getAwayTeamScore());
+            output.put((byte) '}');
+        }
+        output.put((byte) ']');
+        output.flush();
+    }
+
+    private void writeBinary(Output output) {
+        output.putInt(MAGIC);
+        output.putShort(FORMAT_VERSION);
+        for (Match match : scoreBoardDAO.findSummaryView()) {
+            output.putInt(match.id());
+            output.put(encoded(match.getHomeTeamName()).binary);
+            output.put(encoded(match.getAwayTeamName()).binary);
+            output.putInt(match.getHomeTeamScore());
+            output.putInt(match.getAwayTeamScore());
+        }
+        output.putInt(0);
+        output.flush();
+    }
+
+    private EncodedName encoded(String name) {
+        EncodedName encoded = names.get(name);
+        if (encoded == null) {
+            if (names.size() >= MAX_CACHED_NAMES) {
+                names.clear();
+            }
+            encoded = names.computeIfAbsent(name, EncodedName::of);
+        }
+        return encoded;
+    }
+
+    private static int readInt(ByteBuffer buffer) {
+        requireRemaining(buffer, Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    private static String readName(ByteBuffer buffer) {
+        requireRemaining(buffer, Short.BYTES);
+        int length = Short.toUnsignedInt(buffer.getShort());
+        requireRemaining(buffer, length);
+        byte[] name = new byte[length];
+        buffer.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static void requireRemaining(ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() < bytes) {
+            throw new IllegalArgumentException("Score board summary is truncated.");
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record EncodedName(byte[] json, byte[] binary) {
+
+        static EncodedName of(String name) {
+            byte[] utf8 = bytes(name);
+            if (utf8.length > 0xFFFF) {
+                throw new IllegalArgumentException("Team Name is too long to be serialized.");
+            }
+            ByteBuffer binary = ByteBuffer.allocate(Short.BYTES + utf8.length).putShort((short) utf8.length).put(utf8);
+            ByteBuffer json = ByteBuffer.allocate(2 + 6 * utf8.length).put((byte) '"');
+            for (byte b : utf8) {
+                if (b == '"' || b == '\\') {
+                    json.put((byte) '\\').put(b);
+                } else if (b >= 0 && b < 0x20) {
+                    json.put(bytes("\\u00")).put(HEX_DIGITS[b >> 4]).put(HEX_DIGITS[b & 0xF]);
+                } else {
+                    json.put(b);
+                }
+            }
+            json.put((byte) '"');
+            byte[] jsonBytes = new byte[json.position()];
+            json.flip().get(jsonBytes);
+            return new EncodedName(jsonBytes, binary.array());
+        }
+    }
+
+    /**
+     * A buffer which, when it writes to a stream, is emptied into the stream whenever it fills up.
+     */
+    private static final class Output {
+
+        private final ByteBuffer buffer;
+        private final OutputStream stream;
+
+        Output(ByteBuffer buffer, OutputStream stream) {
+            this.buffer = buffer;
+            this.stream = stream;
+        }
+
+        void put(byte b) {
+            ensure(1);
+            buffer.put(b);
+        }
+
+        void put(byte[] bytes) {
+            if (stream != null && bytes.length > buffer.capacity()) {
+                flush();
+                write(bytes, bytes.length);
+                return;
+            }
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        void putShort(short value) {
+            ensure(Short.BYTES);
+            buffer.putShort(value);
+        }
+
+        void putInt(int value) {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        /**
+         * Writes the decimal digits of a non-negative number.
+         */
+        void putDigits(int value) {
+            int digits = 1;
+            for (int rest = value / 10; rest > 0; rest /= 10) {
+                digits++;
+            }
+            ensure(digits);
+            int end = buffer.position() + digits;
+            for (int index = end - 1; index >= buffer.position(); index--) {
+                buffer.put(index, (byte) ('0' + value % 10));
+                value /= 10;
+            }
+            buffer.position(end);
+        }
+
+        void flush() {
+            if (stream != null && buffer.position() > 0) {
+                write(buffer.array(), buffer.position());
+                buffer.clear();
+            }
+        }
+
+        private void ensure(int size) {
+            if (buffer.remaining() >= size) {
+                return;
+            }
+            if (stream == null) {
+                throw new BufferOverflowException();
+            }
+            flush();
+        }
+
+        private void write(byte[] bytes, int length) {
+            try {
+                stream.write(bytes, 0, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
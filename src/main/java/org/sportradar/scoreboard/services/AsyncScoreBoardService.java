@@ -0,0 +1,190 @@
+package org.sportradar.scoreboard.services;
+
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.SummaryPage;
+import org.sportradar.scoreboard.entities.SummarySnapshot;
+import org.sportradar.scoreboard.entities.Team;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking facade of a {@link ScoreBoardService}.
+ * <p>
+ * Reads complete inline, since the service serves them from its published state without waiting. Mutations are
+ * run on the given executor, which may as well run every task on a new virtual thread, and a caller may have any
+ * number of them in flight. Commands are spread over lanes by match id, or by home team for new matches: the
+ * commands of one lane run one after another in submission order, so an update is never overtaken by a later
+ * update or the finish of the same match, while commands of different lanes run in parallel. A rejected command
+ * completes its stage exceptionally with the exception the synchronous method would have thrown, created through
+ * the non-throwing {@code try} methods of the service. Should the executor reject a lane, for example once it was
+ * shut down, its commands run on the submitting thread.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class AsyncScoreBoardService {
+
+    private static final int DEFAULT_LANES = 64;
+    private static final int MAX_COMMANDS_PER_RUN = 64;
+
+    private final ScoreBoardService scoreBoardService;
+    private final Executor executor;
+    private final Lane[] lanes;
+
+    public AsyncScoreBoardService(ScoreBoardService scoreBoardService) {
+        this(scoreBoardService, ForkJoinPool.commonPool(), DEFAULT_LANES);
+    }
+
+    /**
+     * @param scoreBoardService the service the commands are applied to.
+     * @param executor          runs the commands.
+     * @param lanes             number of lanes commands are spread over, rounded up to a power of two.
+     */
+    public AsyncScoreBoardService(ScoreBoardService scoreBoardService, Executor executor, int lanes) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("Number of lanes should be a positive number.");
+        }
+        this.scoreBoardService = scoreBoardService;
+        this.executor = executor;
+        int size = Integer.highestOneBit(lanes);
+        if (size < lanes) {
+            size <<= 1;
+        }
+        this.lanes = new Lane[size];
+        for (int i = 0; i < this.lanes.length; i++) {
+            this.lanes[i] = new Lane();
+        }
+    }
+
+    /**
+     * @see ScoreBoardService#startNewMatch(String, String)
+     */
+    public CompletionStage<Integer> startNewMatch(String homeTeamName, String awayTeamName) {
+        String homeKey = Team.canonicalName(homeTeamName);
+        return submit(homeKey == null ? 0 : homeKey.hashCode(),
+                () -> scoreBoardService.tryStartNewMatch(homeTeamName, awayTeamName));
+    }
+
+    /**
+     * @see ScoreBoardService#updateScore(Integer, int, int)
+     */
+    public CompletionStage<Void> updateScore(Integer matchId, int homeTeamScore, int awayTeamScore) {
+        return submit(laneKey(matchId),
+                () -> scoreBoardService.tryUpdateScore(matchId, homeTeamScore, awayTeamScore));
+    }
+
+    /**
+     * @see ScoreBoardService#updateScore(Integer, int, int, int)
+     */
+    public CompletionStage<Void> updateScore(Integer matchId, int expectedVersion, int homeTeamScore,
+                                             int awayTeamScore) {
+        return submit(laneKey(matchId),
+                () -> scoreBoardService.tryUpdateScore(matchId, expectedVersion, homeTeamScore, awayTeamScore));
+    }
+
+    /**
+     * @see ScoreBoardService#finishMatch(Integer)
+     */
+    public CompletionStage<Void> finishMatch(Integer matchId) {
+        return submit(laneKey(matchId), () -> scoreBoardService.tryFinishMatch(matchId));
+    }
+
+    public CompletionStage<List<Match>> getSummary() {
+        return CompletableFuture.completedFuture(scoreBoardService.getSummary());
+    }
+
+    public CompletionStage<SummarySnapshot> getSummarySnapshot() {
+        return CompletableFuture.completedFuture(scoreBoardService.getSummarySnapshot());
+    }
+
+    /**
+     * @see ScoreBoardService#getTopMatches(int)
+     */
+    public CompletionStage<List<Match>> getTopMatches(int limit) {
+        return read(() -> scoreBoardService.getTopMatches(limit));
+    }
+
+    /**
+     * @see ScoreBoardService#getSummaryPage(Long, int)
+     */
+    public CompletionStage<SummaryPage> getSummaryPage(Long cursor, int size) {
+        return read(() -> scoreBoardService.getSummaryPage(cursor, size));
+    }
+
+    private static int laneKey(Integer matchId) {
+        return matchId == null ? 0 : matchId;
+    }
+
+    private static <T> CompletionStage<T> read(Supplier<T> query) {
+        try {
+            return CompletableFuture.completedFuture(query.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> CompletionStage<T> submit(int laneKey, Supplier<CommandOutcome<T>> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        int hash = laneKey ^ (laneKey >>> 16);
+        lanes[hash & (lanes.length - 1)].submit(() -> {
+            try {
+                CommandOutcome<T> outcome = command.get();
+                if (outcome instanceof CommandOutcome.Rejected<T> rejected) {
+                    result.completeExceptionally(rejected.toException());
+                } else {
+                    result.complete(outcome.orElseThrow());
+                }
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs its commands one at a time in submission order, borrowing an executor thread only while it has any.
+     * When the executor rejects the lane, the commands run on the calling thread instead.
+     */
+    private final class Lane implements Runnable {
+
+        private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        void submit(Runnable command) {
+            commands.offer(command);
+            if (pending.getAndIncrement() == 0 && !schedule()) {
+                run();
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                for (int i = 0; i < MAX_COMMANDS_PER_RUN; i++) {
+                    commands.poll().run();
+                    if (pending.decrementAndGet() == 0) {
+                        return;
+                    }
+                }
+            } while (!schedule());
+        }
+
+        private boolean schedule() {
+            try {
+                executor.execute(this);
+                return true;
+            } catch (RejectedExecutionException e) {
+                return false;
+            }
+        }
+    }
+}
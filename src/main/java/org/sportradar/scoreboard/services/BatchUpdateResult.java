@@ -0,0 +1,33 @@
+package org.sportradar.scoreboard.services;
+
+import org.sportradar.scoreboard.entities.ScoreUpdate;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch of score updates.
+ *
+ * @param applied  number of updates applied to the board.
+ * @param failures the rejected updates, in the order they were given, with the reason of the rejection.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record BatchUpdateResult(int applied, List<Failure> failures) {
+
+    public BatchUpdateResult {
+        failures = List.copyOf(failures);
+    }
+
+    public boolean isFullyApplied() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * A rejected update.
+     *
+     * @param update the rejected update.
+     * @param error  the exception {@link ScoreBoardService#updateScore(Integer, int, int)} would have thrown.
+     */
+    public record Failure(ScoreUpdate update, RuntimeException error) {
+    }
+}
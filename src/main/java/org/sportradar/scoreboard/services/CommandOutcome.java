@@ -0,0 +1,81 @@
+package org.sportradar.scoreboard.services;
+
+import org.sportradar.scoreboard.exceptions.DuplicateMatchException;
+import org.sportradar.scoreboard.exceptions.MatchNotFoundException;
+import org.sportradar.scoreboard.exceptions.NotAllowedException;
+import org.sportradar.scoreboard.exceptions.VersionConflictException;
+
+/**
+ * The outcome of a score board command, for callers which would rather check than catch a rejection.
+ *
+ * @param <T> type of the result of an accepted command.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public sealed interface CommandOutcome<T> {
+
+    static <T> CommandOutcome<T> accepted(T value) {
+        return new Accepted<>(value);
+    }
+
+    static <T> CommandOutcome<T> rejected(RejectionReason reason, Integer matchId, String homeTeamName,
+                                          String awayTeamName) {
+        return new Rejected<>(reason, matchId, homeTeamName, awayTeamName);
+    }
+
+    default boolean isAccepted() {
+        return this instanceof Accepted;
+    }
+
+    /**
+     * @return the result of an accepted command.
+     * @throws RuntimeException the exception matching the rejection, if the command was rejected.
+     */
+    T orElseThrow();
+
+    /**
+     * @param value result of the command, {@code null} for commands without a result.
+     */
+    record Accepted<T>(T value) implements CommandOutcome<T> {
+
+        @Override
+        public T orElseThrow() {
+            return value;
+        }
+    }
+
+    /**
+     * @param reason       why the command was rejected.
+     * @param matchId      id of the match the command was about, if any.
+     * @param homeTeamName name of the home team, or of the team already playing, if any.
+     * @param awayTeamName name of the away team, if any.
+     */
+    record Rejected<T>(RejectionReason reason, Integer matchId, String homeTeamName, String awayTeamName)
+            implements CommandOutcome<T> {
+
+        @Override
+        public T orElseThrow() {
+            throw toException();
+        }
+
+        /**
+         * @return the exception the throwing methods of {@link ScoreBoardService} report this rejection with.
+         */
+        public RuntimeException toException() {
+            return switch (reason) {
+                case INVALID_TEAM_NAME -> new IllegalArgumentException("Team Name should not be null or empty.");
+                case SAME_TEAMS -> new IllegalArgumentException("Team Name should not be similar.");
+                case DUPLICATE_MATCH -> new DuplicateMatchException(homeTeamName, awayTeamName);
+                case TEAM_ALREADY_PLAYING -> NotAllowedException.teamAlreadyPlaying("Adding new match", homeTeamName);
+                case INVALID_MATCH_ID -> new IllegalArgumentException("Match Id should be a valid positive number.");
+                case MATCH_NOT_FOUND -> new MatchNotFoundException(matchId);
+                case SCORE_DECREASED ->
+                        new IllegalArgumentException("Team Scores can not be lower that previous scores.");
+                case SCORE_UNCHANGED ->
+                        new IllegalArgumentException("Team Scores can not be similar to previous scores.");
+                case VERSION_CONFLICT -> new VersionConflictException(matchId);
+                case INVALID_VERSION -> new IllegalArgumentException("Expected version should not be negative.");
+            };
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.sportradar.scoreboard.services;
+
+/**
+ * Why a score board command was rejected.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public enum RejectionReason {
+    INVALID_TEAM_NAME,
+    SAME_TEAMS,
+    DUPLICATE_MATCH,
+    TEAM_ALREADY_PLAYING,
+    INVALID_MATCH_ID,
+    MATCH_NOT_FOUND,
+    SCORE_DECREASED,
+    SCORE_UNCHANGED,
+    VERSION_CONFLICT,
+    INVALID_VERSION
+}
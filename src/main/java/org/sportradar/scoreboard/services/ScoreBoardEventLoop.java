@@ -0,0 +1,191 @@
+package org.sportradar.scoreboard.services;
+
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.SummarySnapshot;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Single-writer execution mode of a {@link ScoreBoardService}.
+ * <p>
+ * All mutations are enqueued as commands into a bounded ring buffer and applied one by one by a dedicated writer
+ * thread, which gives every event on the board a total order and leaves the store without any write contention.
+ * Callers, typically many (virtual) threads, get a {@link CompletableFuture} completed with the result of the
+ * command or with the exception, or error, the service threw for it. When the buffer is full, submitting blocks
+ * until the writer catches up. Reads go straight to the published state of the service and are never queued.
+ * Should the writer thread die anyway, the commands still enqueued and every command submitted afterwards are
+ * rejected, so no caller waits for a command which is never applied.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class ScoreBoardEventLoop implements AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    /**
+     * Enqueued by {@link #close()} behind the last accepted command, the writer ends when it takes it. The writer is
+     * never interrupted, so listeners doing interruptible I/O on it are never cut off.
+     */
+    private static final Command<Void> STOP = new Command<>(() -> null, new CompletableFuture<>());
+
+    private final ScoreBoardService scoreBoardService;
+    private final BlockingQueue<Command<?>> commands;
+    private final Thread writer;
+    private final AtomicBoolean closing = new AtomicBoolean();
+    private volatile boolean running = true;
+    private volatile Throwable writerFailure;
+
+    public ScoreBoardEventLoop(ScoreBoardService scoreBoardService) {
+        this(scoreBoardService, DEFAULT_CAPACITY, runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param scoreBoardService the service the commands are applied to, it should not be mutated by anyone else.
+     * @param capacity          number of commands the ring buffer holds before submitting blocks.
+     * @param threadFactory     creates the writer thread.
+     */
+    public ScoreBoardEventLoop(ScoreBoardService scoreBoardService, int capacity, ThreadFactory threadFactory) {
+        this.scoreBoardService = scoreBoardService;
+        this.commands = new ArrayBlockingQueue<>(capacity);
+        this.writer = threadFactory.newThread(this::run);
+        this.writer.start();
+    }
+
+    /**
+     * @see ScoreBoardService#startNewMatch(String, String)
+     */
+    public CompletableFuture<Integer> startNewMatch(String homeTeamName, String awayTeamName) {
+        return submit(() -> scoreBoardService.startNewMatch(homeTeamName, awayTeamName));
+    }
+
+    /**
+     * @see ScoreBoardService#updateScore(Integer, int, int)
+     */
+    public CompletableFuture<Void> updateScore(Integer matchId, int homeTeamScore, int awayTeamScore) {
+        return submit(() -> {
+            scoreBoardService.updateScore(matchId, homeTeamScore, awayTeamScore);
+            return null;
+        });
+    }
+
+    /**
+     * @see ScoreBoardService#finishMatch(Integer)
+     */
+    public CompletableFuture<Void> finishMatch(Integer matchId) {
+        return submit(() -> {
+            scoreBoardService.finishMatch(matchId);
+            return null;
+        });
+    }
+
+    public List<Match> getSummary() {
+        return scoreBoardService.getSummary();
+    }
+
+    public SummarySnapshot getSummarySnapshot() {
+        return scoreBoardService.getSummarySnapshot();
+    }
+
+    /**
+     * Stops accepting commands, applies the ones already enqueued and waits for the writer thread to end.
+     */
+    @Override
+    public void close() {
+        running = false;
+        boolean interrupted = false;
+        if (closing.compareAndSet(false, true)) {
+            while (true) {
+                try {
+                    commands.put(STOP);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> action) {
+        Command<T> command = new Command<>(action, new CompletableFuture<>());
+        if (!running) {
+            command.result().completeExceptionally(rejection());
+            return command.result();
+        }
+        try {
+            commands.put(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            command.result().completeExceptionally(e);
+            return command.result();
+        }
+        if (!running && commands.remove(command)) {
+            command.result().completeExceptionally(rejection());
+        }
+        return command.result();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                Command<?> command;
+                try {
+                    command = commands.take();
+                } catch (InterruptedException e) {
+                    // only close stops the writer, by enqueueing STOP
+                    continue;
+                }
+                if (command == STOP) {
+                    return;
+                }
+                command.apply();
+            }
+        } catch (Throwable e) {
+            writerFailure = e;
+            throw e;
+        } finally {
+            // submit checks running again after enqueueing, so no command is left behind once the queue is drained
+            running = false;
+            Command<?> pending;
+            while ((pending = commands.poll()) != null) {
+                pending.result().completeExceptionally(rejection());
+            }
+        }
+    }
+
+    private RejectedExecutionException rejection() {
+        Throwable failure = writerFailure;
+        return failure == null ? new RejectedExecutionException("The event loop is closed.")
+                : new RejectedExecutionException("The writer thread of the event loop died.", failure);
+    }
+
+    private record Command<T>(Supplier<T> action, CompletableFuture<T> result) {
+
+        void apply() {
+            try {
+                result.complete(action.get());
+            } catch (Throwable e) {
+                // an error must not end the writer, nor leave the caller waiting
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
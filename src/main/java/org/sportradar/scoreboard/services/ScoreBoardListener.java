@@ -0,0 +1,29 @@
+package org.sportradar.scoreboard.services;
+
+import org.sportradar.scoreboard.entities.Match;
+
+/**
+ * Receives the changes a {@link ScoreBoardService} applied to its board.
+ * <p>
+ * Callbacks run on the thread that made the change, right after the change was applied and in the order the changes
+ * of a match were applied: a listener never hears about a newer state of a match before an older one, nor about a
+ * match finishing before it started, nor about a team starting a new match before its previous match finished.
+ * Changes of unrelated matches are reported in parallel from the threads making them, so listeners must be thread
+ * safe. Callbacks run while the write order of the changed match is held, so they should be quick and must not call
+ * back into the service. An exception thrown by a listener is passed on to the caller of the service, the change
+ * itself stays applied.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public interface ScoreBoardListener {
+
+    default void onMatchStarted(Match match) {
+    }
+
+    default void onScoreUpdated(Match previous, Match updated) {
+    }
+
+    default void onMatchFinished(Match match) {
+    }
+}
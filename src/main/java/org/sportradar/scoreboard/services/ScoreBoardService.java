@@ -1,12 +1,29 @@
 package org.sportradar.scoreboard.services;
 
 import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Fixture;
 import org.sportradar.scoreboard.entities.Match;
-import org.sportradar.scoreboard.exceptions.DuplicateMatchException;
+import org.sportradar.scoreboard.entities.ScoreUpdate;
+import org.sportradar.scoreboard.entities.SummaryDelta;
+import org.sportradar.scoreboard.entities.SummaryPage;
+import org.sportradar.scoreboard.entities.SummarySnapshot;
+import org.sportradar.scoreboard.entities.Team;
 import org.sportradar.scoreboard.exceptions.MatchNotFoundException;
-import org.sportradar.scoreboard.exceptions.NotAllowedException;
+import org.sportradar.scoreboard.exceptions.VersionConflictException;
+import org.sportradar.scoreboard.metrics.MetricsRegistry;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 
 /**
  * A service keeping the score board and the operation on that for starting or updating a match
@@ -17,10 +34,70 @@ import java.util.List;
  */
 public class ScoreBoardService {
 
+    private static final int ANY_VERSION = -1;
+    private static final ScoreBoardListener[] NO_LISTENERS = new ScoreBoardListener[0];
+
     private final ScoreBoardDAO scoreBoardDAO;
+    private volatile ScoreBoardListener[] listeners = NO_LISTENERS;
+    private final MetricsRegistry.Timer startTimer;
+    private final MetricsRegistry.Timer batchStartTimer;
+    private final MetricsRegistry.Timer updateTimer;
+    private final MetricsRegistry.Timer batchUpdateTimer;
+    private final MetricsRegistry.Timer finishTimer;
+    private final MetricsRegistry.Timer summaryTimer;
+    private final MetricsRegistry.Counter duplicateMatchRejections;
+    private final MetricsRegistry.Counter notAllowedRejections;
+    private final MetricsRegistry.Counter matchNotFoundRejections;
+    private final MetricsRegistry.Counter invalidArgumentRejections;
+    private final MetricsRegistry.Counter versionConflictRejections;
+    private final MetricsRegistry.Counter updateRetries;
 
     public ScoreBoardService(ScoreBoardDAO scoreBoardDAO) {
+        this(scoreBoardDAO, MetricsRegistry.noop());
+    }
+
+    /**
+     * @param scoreBoardDAO   the board.
+     * @param metricsRegistry where latencies of the operations, rejections and the size of the board are reported.
+     */
+    public ScoreBoardService(ScoreBoardDAO scoreBoardDAO, MetricsRegistry metricsRegistry) {
         this.scoreBoardDAO = scoreBoardDAO;
+        this.startTimer = metricsRegistry.timer("scoreboard.start");
+        this.batchStartTimer = metricsRegistry.timer("scoreboard.start.batch");
+        this.updateTimer = metricsRegistry.timer("scoreboard.update");
+        this.batchUpdateTimer = metricsRegistry.timer("scoreboard.update.batch");
+        this.finishTimer = metricsRegistry.timer("scoreboard.finish");
+        this.summaryTimer = metricsRegistry.timer("scoreboard.summary");
+        this.duplicateMatchRejections = metricsRegistry.counter("scoreboard.rejected.duplicate_match");
+        this.notAllowedRejections = metricsRegistry.counter("scoreboard.rejected.not_allowed");
+        this.matchNotFoundRejections = metricsRegistry.counter("scoreboard.rejected.match_not_found");
+        this.invalidArgumentRejections = metricsRegistry.counter("scoreboard.rejected.invalid_argument");
+        this.versionConflictRejections = metricsRegistry.counter("scoreboard.rejected.version_conflict");
+        this.updateRetries = metricsRegistry.counter("scoreboard.update.retries");
+        metricsRegistry.gauge("scoreboard.live_matches", scoreBoardDAO::count);
+        metricsRegistry.gauge("scoreboard.summary.build_nanos", scoreBoardDAO::getLastSummaryBuildNanos);
+    }
+
+    /**
+     * Registers a listener to be told about every change applied by the operations started from now on.
+     * <p>
+     * While there are listeners, every change is applied and reported as one step of the
+     * {@link ScoreBoardDAO#inWriteOrder(Match, Supplier) write order} of the changed match, and of its teams when it
+     * starts or finishes, so listeners are told about the changes of a match in the order they were applied while
+     * changes of unrelated matches are applied and reported in parallel.
+     */
+    public synchronized void addListener(ScoreBoardListener listener) {
+        ScoreBoardListener[] current = listeners;
+        ScoreBoardListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    public synchronized void removeListener(ScoreBoardListener listener) {
+        List<ScoreBoardListener> remaining = new ArrayList<>(Arrays.asList(listeners));
+        if (remaining.remove(listener)) {
+            listeners = remaining.toArray(NO_LISTENERS);
+        }
     }
 
     /**
@@ -29,7 +106,92 @@ public class ScoreBoardService {
      * @return An ordered list of {@link Match}
      */
     public List<Match> getSummary() {
-        return scoreBoardDAO.findByAll();
+        long start = System.nanoTime();
+        try {
+            return scoreBoardDAO.findByAll();
+        } finally {
+            summaryTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Get an ongoing match by its id.
+     *
+     * @param matchId id of the match.
+     * @return The {@link Match}, or empty if no ongoing match has that id
+     */
+    public Optional<Match> getMatch(Integer matchId) {
+        return scoreBoardDAO.findById(matchId);
+    }
+
+    /**
+     * Get what changed in the summary since a version the client already has, which is usually a few matches
+     * rather than the whole board. The delta is a full summary when the version is too old, unknown, or the board
+     * does not publish snapshots.
+     *
+     * @param sinceVersion the {@link SummarySnapshot#version() version} of the summary the client has.
+     * @return The {@link SummaryDelta} from that version to the latest one
+     */
+    public SummaryDelta getSummaryDelta(long sinceVersion) {
+        long start = System.nanoTime();
+        try {
+            return scoreBoardDAO.findSummaryDelta(sinceVersion);
+        } finally {
+            summaryTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Get the first matches of the summary, in the same order as {@link #getSummary()}, without copying the rest of
+     * the board.
+     *
+     * @param limit maximum number of matches to return.
+     * @return An ordered, unmodifiable list of at most limit {@link Match}es
+     * @throws IllegalArgumentException if limit is not a positive number.
+     */
+    public List<Match> getTopMatches(int limit) {
+        validatePageSize(limit);
+        long start = System.nanoTime();
+        try {
+            return scoreBoardDAO.findTop(limit);
+        } finally {
+            summaryTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Get one page of the summary. Pages are addressed by the position of the last match already read, so paging
+     * through a board whose scores change meanwhile never returns the same unchanged match twice.
+     *
+     * @param cursor the {@link SummaryPage#nextCursor() next cursor} of the previous page, {@code null} for the
+     *               first page.
+     * @param size   maximum number of matches on the page.
+     * @return The requested {@link SummaryPage}
+     * @throws IllegalArgumentException if size is not a positive number.
+     */
+    public SummaryPage getSummaryPage(Long cursor, int size) {
+        validatePageSize(size);
+        long start = System.nanoTime();
+        try {
+            return scoreBoardDAO.findPage(cursor, size);
+        } finally {
+            summaryTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Get the latest versioned summary of the ongoing matches. The version only changes when the board changes,
+     * so it can be used to skip re-sending an unchanged board.
+     *
+     * @return The latest {@link SummarySnapshot}
+     */
+    public SummarySnapshot getSummarySnapshot() {
+        long start = System.nanoTime();
+        try {
+            return scoreBoardDAO.findSummarySnapshot();
+        } finally {
+            summaryTimer.record(System.nanoTime() - start);
+        }
     }
 
     /**
@@ -40,13 +202,159 @@ public class ScoreBoardService {
      * @throws IllegalArgumentException if teamName is null or blank
      */
     public Integer startNewMatch(String homeTeamName, String awayTeamName) {
-        validateTeamName(homeTeamName);
-        validateTeamName(awayTeamName);
-        validateDifferentTeamNames(homeTeamName, awayTeamName);
-        Match newMatch = Match.getNewMatch(homeTeamName, awayTeamName);
-        validateNoDuplicate(newMatch);
-        scoreBoardDAO.save(newMatch);
-        return newMatch.getId();
+        return tryStartNewMatch(homeTeamName, awayTeamName).orElseThrow();
+    }
+
+    /**
+     * Start a new match and save it to the score board, reporting a rejection instead of throwing it.
+     *
+     * @param homeTeamName: name of the team that plays at home.
+     * @param awayTeamName: name of the team that plays away.
+     * @return the id of the new match, or why it could not be started.
+     * @see #startNewMatch(String, String)
+     */
+    public CommandOutcome<Integer> tryStartNewMatch(String homeTeamName, String awayTeamName) {
+        long start = System.nanoTime();
+        try {
+            return countRejection(doStartNewMatch(homeTeamName, awayTeamName));
+        } finally {
+            startTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    private CommandOutcome<Integer> doStartNewMatch(String homeTeamName, String awayTeamName) {
+        if (isBlank(homeTeamName) || isBlank(awayTeamName)) {
+            return CommandOutcome.rejected(RejectionReason.INVALID_TEAM_NAME, null, homeTeamName, awayTeamName);
+        }
+        Team homeTeam = new Team(homeTeamName);
+        Team awayTeam = new Team(awayTeamName);
+        if (homeTeam.equals(awayTeam)) {
+            return CommandOutcome.rejected(RejectionReason.SAME_TEAMS, null, homeTeamName, awayTeamName);
+        }
+        CommandOutcome<Integer> duplicate = validateNoDuplicate(homeTeam, awayTeam);
+        if (duplicate != null) {
+            return duplicate;
+        }
+        Match newMatch = Match.getNewMatch(scoreBoardDAO.nextMatchId(), homeTeam, awayTeam);
+        ScoreBoardListener[] listeners = this.listeners;
+        return inWriteOrder(listeners, newMatch, () -> {
+            if (!scoreBoardDAO.insert(newMatch)) {
+                String playingTeam = scoreBoardDAO.findByTeam(awayTeam).isPresent() ? awayTeamName : homeTeamName;
+                return CommandOutcome.rejected(RejectionReason.TEAM_ALREADY_PLAYING, null, playingTeam, null);
+            }
+            for (ScoreBoardListener listener : listeners) {
+                listener.onMatchStarted(newMatch);
+            }
+            return CommandOutcome.accepted(newMatch.id());
+        });
+    }
+
+    /**
+     * Starts several new matches at once, for example the fixtures of a whole matchday. The fixtures are validated
+     * together, against the board and against each other, the ids of the valid ones are allocated as one block in
+     * the order of the fixtures, and they are added with a single reordering of the summary. A rejected fixture
+     * does not stop the rest of the batch.
+     *
+     * @param fixtures the matches to start.
+     * @return one outcome per fixture, in the same order: the id of the new match, or why it could not be started
+     * as {@link #tryStartNewMatch(String, String)} would have reported it. Of two fixtures sharing a team only the
+     * first one is started.
+     */
+    public List<CommandOutcome<Integer>> startMatches(List<Fixture> fixtures) {
+        long start = System.nanoTime();
+        try {
+            List<CommandOutcome<Integer>> outcomes = doStartMatches(fixtures);
+            outcomes.forEach(this::countRejection);
+            return outcomes;
+        } finally {
+            batchStartTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    private List<CommandOutcome<Integer>> doStartMatches(List<Fixture> fixtures) {
+        List<CommandOutcome<Integer>> outcomes = new ArrayList<>(fixtures.size());
+        Team[] homeTeams = new Team[fixtures.size()];
+        Team[] awayTeams = new Team[fixtures.size()];
+        Map<Team, Team> opponents = new HashMap<>();
+        int valid = 0;
+        for (int i = 0; i < fixtures.size(); i++) {
+            Fixture fixture = fixtures.get(i);
+            CommandOutcome<Integer> rejection;
+            if (isBlank(fixture.homeTeamName()) || isBlank(fixture.awayTeamName())) {
+                rejection = CommandOutcome.rejected(RejectionReason.INVALID_TEAM_NAME, null,
+                        fixture.homeTeamName(), fixture.awayTeamName());
+            } else {
+                homeTeams[i] = new Team(fixture.homeTeamName());
+                awayTeams[i] = new Team(fixture.awayTeamName());
+                rejection = validateFixture(homeTeams[i], awayTeams[i], opponents);
+            }
+            outcomes.add(rejection);
+            if (rejection == null) {
+                opponents.put(homeTeams[i], awayTeams[i]);
+                opponents.put(awayTeams[i], homeTeams[i]);
+                valid++;
+            }
+        }
+        if (valid == 0) {
+            return outcomes;
+        }
+        int nextId = scoreBoardDAO.nextMatchIds(valid);
+        List<Match> newMatches = new ArrayList<>(valid);
+        for (int i = 0; i < fixtures.size(); i++) {
+            if (outcomes.get(i) == null) {
+                newMatches.add(Match.getNewMatch(nextId++, homeTeams[i], awayTeams[i]));
+            }
+        }
+        ScoreBoardListener[] listeners = this.listeners;
+        return inWriteOrder(listeners, newMatches, () -> {
+            Set<Integer> rejectedIds = new HashSet<>();
+            for (Match rejected : scoreBoardDAO.insertAll(newMatches)) {
+                rejectedIds.add(rejected.id());
+            }
+            int index = 0;
+            for (Match newMatch : newMatches) {
+                while (outcomes.get(index) != null) {
+                    index++;
+                }
+                if (rejectedIds.contains(newMatch.id())) {
+                    String playingTeam = scoreBoardDAO.findByTeam(newMatch.getAwayTeam()).isPresent()
+                            ? newMatch.getAwayTeamName() : newMatch.getHomeTeamName();
+                    outcomes.set(index, CommandOutcome.rejected(RejectionReason.TEAM_ALREADY_PLAYING, null,
+                            playingTeam, null));
+                } else {
+                    outcomes.set(index, CommandOutcome.accepted(newMatch.id()));
+                    for (ScoreBoardListener listener : listeners) {
+                        listener.onMatchStarted(newMatch);
+                    }
+                }
+            }
+            return outcomes;
+        });
+    }
+
+    /**
+     * Validates the teams of a fixture against the board and against the fixtures accepted before it in the same
+     * batch.
+     *
+     * @param opponents the opponent of every team of the fixtures accepted so far.
+     * @return the rejection of the fixture, {@code null} if it is valid.
+     */
+    private CommandOutcome<Integer> validateFixture(Team homeTeam, Team awayTeam, Map<Team, Team> opponents) {
+        String homeTeamName = homeTeam.getName();
+        String awayTeamName = awayTeam.getName();
+        if (homeTeam.equals(awayTeam)) {
+            return CommandOutcome.rejected(RejectionReason.SAME_TEAMS, null, homeTeamName, awayTeamName);
+        }
+        if (awayTeam.equals(opponents.get(homeTeam))) {
+            return CommandOutcome.rejected(RejectionReason.DUPLICATE_MATCH, null, homeTeamName, awayTeamName);
+        }
+        if (opponents.containsKey(homeTeam)) {
+            return CommandOutcome.rejected(RejectionReason.TEAM_ALREADY_PLAYING, null, homeTeamName, null);
+        }
+        if (opponents.containsKey(awayTeam)) {
+            return CommandOutcome.rejected(RejectionReason.TEAM_ALREADY_PLAYING, null, awayTeamName, null);
+        }
+        return validateNoDuplicate(homeTeam, awayTeam);
     }
 
     /**
@@ -61,18 +369,176 @@ public class ScoreBoardService {
      * @throws MatchNotFoundException   if mach does not exist on the board with given HomeTeam and AwayTeam.
      */
     public void updateScore(Integer matchId, int homeTeamScore, int awayTeamScore) {
+        tryUpdateScore(matchId, homeTeamScore, awayTeamScore).orElseThrow();
+    }
+
+    /**
+     * Updates the score board with new scores, reporting a rejection instead of throwing it.
+     * <p>
+     * If another update changes the match between reading and writing it, the new scores are validated again
+     * against the scores that update set and written again, so scores never go backwards.
+     *
+     * @param matchId       id of the match.
+     * @param homeTeamScore number of goals home team had already scored.
+     * @param awayTeamScore number of goals away team had already scored.
+     * @return an accepted outcome without value, or why the scores were not accepted.
+     * @see #updateScore(Integer, int, int)
+     */
+    public CommandOutcome<Void> tryUpdateScore(Integer matchId, int homeTeamScore, int awayTeamScore) {
+        long start = System.nanoTime();
+        try {
+            return countRejection(doUpdateScore(matchId, ANY_VERSION, homeTeamScore, awayTeamScore));
+        } finally {
+            updateTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Updates the score board with new scores if the match is still at the expected version.
+     *
+     * @param matchId         id of the match.
+     * @param expectedVersion the {@link Match#getVersion() version} of the match the new scores are based on.
+     * @param homeTeamScore   number of goals home team had already scored.
+     * @param awayTeamScore   number of goals away team had already scored.
+     * @throws VersionConflictException if the match is at another version.
+     * @throws IllegalArgumentException if the expected version is negative.
+     * @see #updateScore(Integer, int, int)
+     */
+    public void updateScore(Integer matchId, int expectedVersion, int homeTeamScore, int awayTeamScore) {
+        tryUpdateScore(matchId, expectedVersion, homeTeamScore, awayTeamScore).orElseThrow();
+    }
+
+    /**
+     * Updates the score board with new scores if the match is still at the expected version, reporting a
+     * rejection instead of throwing it. A conflicting update is rejected rather than retried.
+     *
+     * @param matchId         id of the match.
+     * @param expectedVersion the {@link Match#getVersion() version} of the match the new scores are based on.
+     * @param homeTeamScore   number of goals home team had already scored.
+     * @param awayTeamScore   number of goals away team had already scored.
+     * @return an accepted outcome without value, or why the scores were not accepted.
+     */
+    public CommandOutcome<Void> tryUpdateScore(Integer matchId, int expectedVersion, int homeTeamScore,
+                                               int awayTeamScore) {
+        long start = System.nanoTime();
+        try {
+            if (expectedVersion < 0) {
+                return countRejection(CommandOutcome.rejected(RejectionReason.INVALID_VERSION, matchId, null, null));
+            }
+            return countRejection(doUpdateScore(matchId, expectedVersion, homeTeamScore, awayTeamScore));
+        } finally {
+            updateTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    private CommandOutcome<Void> doUpdateScore(Integer matchId, int expectedVersion, int homeTeamScore,
+                                               int awayTeamScore) {
         if (matchId == null || matchId < 0) {
-            throw new IllegalArgumentException("Match Id should be a valid positive number.");
+            return CommandOutcome.rejected(RejectionReason.INVALID_MATCH_ID, matchId, null, null);
         }
-        Match match = findMatch(matchId);
-        if (homeTeamScore < match.getHomeTeam().getScore() || awayTeamScore < match.getAwayTeam().getScore()) {
-            throw new IllegalArgumentException("Team Scores can not be lower that previous scores.");
+        ScoreBoardListener[] listeners = this.listeners;
+        return inWriteOrder(listeners, matchId, () -> {
+            while (true) {
+                Optional<Match> found = scoreBoardDAO.findById(matchId);
+                if (found.isEmpty()) {
+                    return CommandOutcome.rejected(RejectionReason.MATCH_NOT_FOUND, matchId, null, null);
+                }
+                Match match = found.get();
+                if (expectedVersion != ANY_VERSION && match.getVersion() != expectedVersion) {
+                    return CommandOutcome.rejected(RejectionReason.VERSION_CONFLICT, matchId, null, null);
+                }
+                RejectionReason invalidScores = validateNewScores(match, homeTeamScore, awayTeamScore);
+                if (invalidScores != null) {
+                    return CommandOutcome.rejected(invalidScores, matchId, null, null);
+                }
+                Match updatedMath = Match.getNewMatch(match, homeTeamScore, awayTeamScore);
+                if (scoreBoardDAO.compareAndSet(updatedMath)) {
+                    for (ScoreBoardListener listener : listeners) {
+                        listener.onScoreUpdated(match, updatedMath);
+                    }
+                    return CommandOutcome.accepted(null);
+                }
+                if (expectedVersion == ANY_VERSION) {
+                    updateRetries.increment();
+                }
+            }
+        });
+    }
+
+    /**
+     * Updates the scores of several matches at once. All updates are validated against the current board, where
+     * an update sees the scores set by the updates before it in the same batch, and the accepted ones are applied
+     * together with a single reordering of the summary. A rejected update does not stop the rest of the batch.
+     * The updates of a match another writer changed in the meantime are all rejected with a
+     * {@link VersionConflictException}, a match gets one new version per batch. Listeners are told about the
+     * updates of a match, in iteration order, right after the match was replaced and before the next one is.
+     *
+     * @param scoreUpdates the new scores, applied in iteration order.
+     * @return number of applied updates and the rejected updates with the exception
+     * {@link #updateScore(Integer, int, int)} would have thrown for them.
+     */
+    public BatchUpdateResult updateScores(Collection<ScoreUpdate> scoreUpdates) {
+        long start = System.nanoTime();
+        try {
+            return doUpdateScores(scoreUpdates);
+        } finally {
+            batchUpdateTimer.record(System.nanoTime() - start);
         }
-        if (homeTeamScore + awayTeamScore == match.getHomeTeam().getScore() + match.getAwayTeam().getScore()) {
-            throw new IllegalArgumentException("Team Scores can not be similar to previous scores.");
+    }
+
+    private BatchUpdateResult doUpdateScores(Collection<ScoreUpdate> scoreUpdates) {
+        Map<Integer, Match> storedMatches = new HashMap<>();
+        Map<Integer, Match> updatedMatches = new LinkedHashMap<>();
+        Map<Integer, List<ScoreChange>> changes = new HashMap<>();
+        int accepted = 0;
+        Map<Integer, BatchUpdateResult.Failure> failures = new TreeMap<>();
+        int index = -1;
+        for (ScoreUpdate scoreUpdate : scoreUpdates) {
+            index++;
+            Integer matchId = scoreUpdate.matchId();
+            RejectionReason rejection = null;
+            Match match = null;
+            if (matchId == null || matchId < 0) {
+                rejection = RejectionReason.INVALID_MATCH_ID;
+            } else {
+                match = updatedMatches.containsKey(matchId)
+                        ? updatedMatches.get(matchId) : scoreBoardDAO.findById(matchId).orElse(null);
+                rejection = match == null ? RejectionReason.MATCH_NOT_FOUND
+                        : validateNewScores(match, scoreUpdate.homeTeamScore(), scoreUpdate.awayTeamScore());
+            }
+            if (rejection != null) {
+                failures.put(index, failure(scoreUpdate, rejection));
+                continue;
+            }
+            storedMatches.putIfAbsent(matchId, match);
+            Match updatedMatch = Match.getNewMatch(storedMatches.get(matchId), scoreUpdate.homeTeamScore(),
+                    scoreUpdate.awayTeamScore());
+            updatedMatches.put(matchId, updatedMatch);
+            changes.computeIfAbsent(matchId, id -> new ArrayList<>())
+                    .add(new ScoreChange(index, scoreUpdate, match, updatedMatch));
+            accepted++;
         }
-        Match updatedMath = Match.getNewMatch(match, homeTeamScore, awayTeamScore);
-        scoreBoardDAO.save(updatedMath);
+        int applied = accepted;
+        ScoreBoardListener[] listeners = this.listeners;
+        return inWriteOrder(listeners, storedMatches.values(), () -> {
+            int rejectedUpdates = 0;
+            List<Match> rejectedMatches = scoreBoardDAO.compareAndSetAll(updatedMatches.values(), replaced -> {
+                for (ScoreChange change : changes.get(replaced.id())) {
+                    for (ScoreBoardListener listener : listeners) {
+                        listener.onScoreUpdated(change.previous(), change.updated());
+                    }
+                }
+            });
+            for (Match rejected : rejectedMatches) {
+                RejectionReason reason = scoreBoardDAO.findById(rejected.id()).isPresent()
+                        ? RejectionReason.VERSION_CONFLICT : RejectionReason.MATCH_NOT_FOUND;
+                for (ScoreChange change : changes.get(rejected.id())) {
+                    failures.put(change.index(), failure(change.scoreUpdate(), reason));
+                    rejectedUpdates++;
+                }
+            }
+            return new BatchUpdateResult(applied - rejectedUpdates, new ArrayList<>(failures.values()));
+        });
     }
 
     /**
@@ -82,51 +548,133 @@ public class ScoreBoardService {
      * @throws MatchNotFoundException if mach does not exist on the board with given HomeTeam and AwayTeam.
      */
     public void finishMatch(Integer matchId) {
+        tryFinishMatch(matchId).orElseThrow();
+    }
+
+    /**
+     * Finishes a match and remove it from the score board, reporting a rejection instead of throwing it.
+     *
+     * @param matchId id of the match to be finished.
+     * @return an accepted outcome without value, or why the match could not be finished.
+     * @see #finishMatch(Integer)
+     */
+    public CommandOutcome<Void> tryFinishMatch(Integer matchId) {
+        long start = System.nanoTime();
+        try {
+            return countRejection(doFinishMatch(matchId));
+        } finally {
+            finishTimer.record(System.nanoTime() - start);
+        }
+    }
+
+    private CommandOutcome<Void> doFinishMatch(Integer matchId) {
         if (matchId == null || matchId <= 0) {
-            throw new IllegalArgumentException("Id cannot be null");
+            return CommandOutcome.rejected(RejectionReason.INVALID_MATCH_ID, matchId, null, null);
+        }
+        Optional<Match> found = scoreBoardDAO.findById(matchId);
+        if (found.isEmpty()) {
+            return CommandOutcome.rejected(RejectionReason.MATCH_NOT_FOUND, matchId, null, null);
         }
-        Match match = findMatch(matchId);
-        scoreBoardDAO.delete(match);
+        ScoreBoardListener[] listeners = this.listeners;
+        return inWriteOrder(listeners, found.get(), () -> {
+            Optional<Match> finished = scoreBoardDAO.delete(found.get());
+            if (finished.isEmpty()) {
+                return CommandOutcome.rejected(RejectionReason.MATCH_NOT_FOUND, matchId, null, null);
+            }
+            for (ScoreBoardListener listener : listeners) {
+                listener.onMatchFinished(finished.get());
+            }
+            return CommandOutcome.accepted(null);
+        });
+    }
+
+    /**
+     * Applies the score changes of a match and tells the listeners about them as one step of the write order of the
+     * match. Without listeners there is nothing to keep in order, so the write runs on its own.
+     */
+    private <T> T inWriteOrder(ScoreBoardListener[] listeners, int matchId, Supplier<T> write) {
+        return listeners.length == 0 ? write.get() : scoreBoardDAO.inWriteOrder(matchId, write);
+    }
+
+    /**
+     * Applies the changes of a write and tells the listeners about them as one step of the write order of the
+     * match and its teams. Without listeners there is nothing to keep in order, so the write runs on its own.
+     */
+    private <T> T inWriteOrder(ScoreBoardListener[] listeners, Match match, Supplier<T> write) {
+        return listeners.length == 0 ? write.get() : scoreBoardDAO.inWriteOrder(match, write);
     }
 
-    private static void validateDifferentTeamNames(String homeTeamName, String awayTeamName) {
-        if (homeTeamName.equalsIgnoreCase(awayTeamName)) {
-            throw new IllegalArgumentException("Team Name should not be similar.");
+    private <T> T inWriteOrder(ScoreBoardListener[] listeners, Collection<Match> matches, Supplier<T> write) {
+        return listeners.length == 0 ? write.get() : scoreBoardDAO.inWriteOrder(matches, write);
+    }
+
+    private BatchUpdateResult.Failure failure(ScoreUpdate scoreUpdate, RejectionReason reason) {
+        countRejection(reason);
+        CommandOutcome.Rejected<Void> rejected =
+                new CommandOutcome.Rejected<>(reason, scoreUpdate.matchId(), null, null);
+        return new BatchUpdateResult.Failure(scoreUpdate, rejected.toException());
+    }
+
+    private <T> CommandOutcome<T> countRejection(CommandOutcome<T> outcome) {
+        if (outcome instanceof CommandOutcome.Rejected<T> rejected) {
+            countRejection(rejected.reason());
         }
+        return outcome;
     }
 
-    private static void validateTeamName(String teamName) {
-        if (teamName == null || teamName.isBlank()) {
-            throw new IllegalArgumentException("Team Name should not be null or empty.");
+    private void countRejection(RejectionReason reason) {
+        switch (reason) {
+            case DUPLICATE_MATCH -> duplicateMatchRejections.increment();
+            case TEAM_ALREADY_PLAYING -> notAllowedRejections.increment();
+            case MATCH_NOT_FOUND -> matchNotFoundRejections.increment();
+            case VERSION_CONFLICT -> versionConflictRejections.increment();
+            default -> invalidArgumentRejections.increment();
         }
     }
 
-    private void validateNoDuplicate(Match match) {
-        scoreBoardDAO.findByMatch(match).ifPresent(m ->
-        {
-            throw new DuplicateMatchException(match.getHomeTeam().getName(), match.getAwayTeam().getName());
-        });
-        scoreBoardDAO.findByMatch(getReverseMatch(match)).ifPresent(match1 -> {
-            throw new DuplicateMatchException(match.getAwayTeam().getName(), match.getHomeTeam().getName());
-        });
+    private static RejectionReason validateNewScores(Match match, int homeTeamScore, int awayTeamScore) {
+        if (homeTeamScore < match.getHomeTeamScore() || awayTeamScore < match.getAwayTeamScore()) {
+            return RejectionReason.SCORE_DECREASED;
+        }
+        if (homeTeamScore + awayTeamScore == match.getTotalScore()) {
+            return RejectionReason.SCORE_UNCHANGED;
+        }
+        return null;
+    }
 
-        scoreBoardDAO.findByTeam(match.getHomeTeam().getName())
-                .ifPresent(m -> {
-                    throw new NotAllowedException("Adding new match", match.getHomeTeam().getName() + " is already playing with another team");
-                });
-        scoreBoardDAO.findByTeam(match.getAwayTeam().getName())
-                .ifPresent(m -> {
-                    throw new NotAllowedException("Adding new match", match.getHomeTeam().getName() + " is already playing with another team");
-                });
+    private static void validatePageSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size should be a positive number.");
+        }
     }
 
-    private static Match getReverseMatch(Match match) {
-        return Match.getNewMatch(match.getAwayTeam().getName(), match.getHomeTeam().getName());
+    private static boolean isBlank(String teamName) {
+        return teamName == null || teamName.isBlank();
     }
 
-    private Match findMatch(Integer matchId) {
-        return scoreBoardDAO.findById(matchId)
-                .orElseThrow(() -> new MatchNotFoundException(matchId));
+    private <T> CommandOutcome<T> validateNoDuplicate(Team homeTeam, Team awayTeam) {
+        String homeTeamName = homeTeam.getName();
+        String awayTeamName = awayTeam.getName();
+        if (scoreBoardDAO.findByPair(homeTeam, awayTeam).isPresent()) {
+            return CommandOutcome.rejected(RejectionReason.DUPLICATE_MATCH, null, homeTeamName, awayTeamName);
+        }
+        if (scoreBoardDAO.findByPair(awayTeam, homeTeam).isPresent()) {
+            return CommandOutcome.rejected(RejectionReason.DUPLICATE_MATCH, null, awayTeamName, homeTeamName);
+        }
+        if (scoreBoardDAO.findByTeam(homeTeam).isPresent()) {
+            return CommandOutcome.rejected(RejectionReason.TEAM_ALREADY_PLAYING, null, homeTeamName, null);
+        }
+        if (scoreBoardDAO.findByTeam(awayTeam).isPresent()) {
+            return CommandOutcome.rejected(RejectionReason.TEAM_ALREADY_PLAYING, null, awayTeamName, null);
+        }
+        return null;
     }
 
+    /**
+     * An accepted update of a batch.
+     *
+     * @param index position of the update in the batch.
+     */
+    private record ScoreChange(int index, ScoreUpdate scoreUpdate, Match previous, Match updated) {
+    }
 }
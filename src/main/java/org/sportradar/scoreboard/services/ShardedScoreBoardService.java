@@ -0,0 +1,210 @@
+package org.sportradar.scoreboard.services;
+
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.CompetitionMatch;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.exceptions.MatchNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A service hosting many independent score boards, one per competition.
+ * <p>
+ * Every competition has its own {@link ScoreBoardService}, so match ids, the one-match-per-team rule and the
+ * summary are all per competition. Writes to a competition are serialized by one of a fixed number of lock
+ * stripes chosen by the competition key, which gives the events of a competition a total order, while writes to
+ * competitions on different stripes never contend. Reads never lock.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class ShardedScoreBoardService {
+
+    private static final int DEFAULT_STRIPES = 64;
+
+    // Match ids are allocated per board, so they do not tell which of two competitions started a match first.
+    private static final Comparator<CompetitionMatch> SUMMARY_ORDER =
+            Comparator.comparingInt((CompetitionMatch competitionMatch) -> competitionMatch.match().getTotalScore())
+                    .reversed()
+                    .thenComparing(CompetitionMatch::competition);
+
+    private final ConcurrentMap<String, ScoreBoardService> boards = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+    private final Supplier<ScoreBoardDAO> daoFactory;
+
+    public ShardedScoreBoardService() {
+        this(DEFAULT_STRIPES, ScoreBoardDAO::withSnapshots);
+    }
+
+    /**
+     * @param stripes    number of lock stripes, rounded up to a power of two.
+     * @param daoFactory creates the DAO of every new competition board.
+     */
+    public ShardedScoreBoardService(int stripes, Supplier<ScoreBoardDAO> daoFactory) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Number of stripes should be a positive number.");
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.daoFactory = daoFactory;
+    }
+
+    public Set<String> getCompetitions() {
+        return Set.copyOf(boards.keySet());
+    }
+
+    /**
+     * Start a new match on the board of a competition. The board of a new competition is created by its first
+     * accepted start, so a rejected start leaves no empty board behind.
+     *
+     * @see ScoreBoardService#startNewMatch(String, String)
+     */
+    public Integer startNewMatch(String competition, String homeTeamName, String awayTeamName) {
+        validateCompetition(competition);
+        ReentrantLock lock = stripeOf(competition);
+        lock.lock();
+        try {
+            ScoreBoardService board = boards.get(competition);
+            if (board != null) {
+                return board.startNewMatch(homeTeamName, awayTeamName);
+            }
+            ScoreBoardService newBoard = new ScoreBoardService(daoFactory.get());
+            Integer matchId = newBoard.startNewMatch(homeTeamName, awayTeamName);
+            boards.put(competition, newBoard);
+            return matchId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the score of a match on the board of a competition.
+     *
+     * @see ScoreBoardService#updateScore(Integer, int, int)
+     */
+    public void updateScore(String competition, Integer matchId, int homeTeamScore, int awayTeamScore) {
+        ScoreBoardService board = findBoard(competition, matchId);
+        ReentrantLock lock = stripeOf(competition);
+        lock.lock();
+        try {
+            board.updateScore(matchId, homeTeamScore, awayTeamScore);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finishes a match on the board of a competition.
+     *
+     * @see ScoreBoardService#finishMatch(Integer)
+     */
+    public void finishMatch(String competition, Integer matchId) {
+        ScoreBoardService board = findBoard(competition, matchId);
+        ReentrantLock lock = stripeOf(competition);
+        lock.lock();
+        try {
+            board.finishMatch(matchId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the summary of one competition, empty if the competition has no board.
+     */
+    public List<Match> getSummary(String competition) {
+        return Optional.ofNullable(boards.get(competition)).map(ScoreBoardService::getSummary).orElse(List.of());
+    }
+
+    /**
+     * Get a summary of the ongoing matches of all competitions, highest total score first. Matches with the same
+     * total score are ordered by competition key and, within a competition, as on its board, the most recently
+     * started first: match ids are allocated per board, so the start order is only known within a competition.
+     * The already ordered summaries of the boards are merged, so it costs O(n log k) for n matches on k boards.
+     *
+     * @return An ordered, unmodifiable list of {@link CompetitionMatch}
+     */
+    public List<CompetitionMatch> getGlobalSummary() {
+        PriorityQueue<SummaryCursor> heads = new PriorityQueue<>(Math.max(1, boards.size()),
+                Comparator.comparing(SummaryCursor::head, SUMMARY_ORDER));
+        int total = 0;
+        for (Map.Entry<String, ScoreBoardService> board : boards.entrySet()) {
+            List<Match> summary = board.getValue().getSummary();
+            if (!summary.isEmpty()) {
+                heads.add(new SummaryCursor(board.getKey(), summary));
+                total += summary.size();
+            }
+        }
+        List<CompetitionMatch> merged = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            SummaryCursor cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return List.copyOf(merged);
+    }
+
+    private ScoreBoardService findBoard(String competition, Integer matchId) {
+        validateCompetition(competition);
+        ScoreBoardService board = boards.get(competition);
+        if (board == null) {
+            throw new MatchNotFoundException(matchId);
+        }
+        return board;
+    }
+
+    private ReentrantLock stripeOf(String competition) {
+        int hash = competition.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static void validateCompetition(String competition) {
+        if (competition == null || competition.isBlank()) {
+            throw new IllegalArgumentException("Competition should not be null or empty.");
+        }
+    }
+
+    private static final class SummaryCursor {
+
+        private final String competition;
+        private final Iterator<Match> summary;
+        private CompetitionMatch head;
+
+        private SummaryCursor(String competition, List<Match> summary) {
+            this.competition = competition;
+            this.summary = summary.iterator();
+            this.head = new CompetitionMatch(competition, this.summary.next());
+        }
+
+        CompetitionMatch head() {
+            return head;
+        }
+
+        boolean advance() {
+            if (!summary.hasNext()) {
+                return false;
+            }
+            head = new CompetitionMatch(competition, summary.next());
+            return true;
+        }
+    }
+}
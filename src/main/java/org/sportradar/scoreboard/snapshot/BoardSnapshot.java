@@ -0,0 +1,21 @@
+package org.sportradar.scoreboard.snapshot;
+
+import org.sportradar.scoreboard.entities.Match;
+
+import java.util.List;
+
+/**
+ * The full state of a board as read from a binary snapshot.
+ *
+ * @param boardVersion version of the summary of the board when the snapshot was taken.
+ * @param lastMatchId  the last match id allocated on the board.
+ * @param matches      the ongoing matches in start order, unmodifiable.
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public record BoardSnapshot(long boardVersion, int lastMatchId, List<Match> matches) {
+
+    public BoardSnapshot {
+        matches = List.copyOf(matches);
+    }
+}
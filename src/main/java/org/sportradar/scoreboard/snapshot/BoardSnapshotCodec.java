@@ -0,0 +1,213 @@
+package org.sportradar.scoreboard.snapshot;
+
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.SummarySnapshot;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact, versioned binary format of a whole board.
+ * <p>
+ * Layout, big endian:
+ * <pre>
+ * int   magic "SBSN"
+ * short format version
+ * long  board version
+ * int   last match id
+ * int   number of team names, then per name: [unsigned short byte length][UTF-8 bytes]
+ * int   number of matches, then per match in start order:
+ *       [int id][int home name index][int away name index][int home score][int away score][int match version]
+ * </pre>
+ * Snapshots of format version 1 have no match version, their matches are read back as if every goal was a
+ * separate update.
+ * Team names are written once in the string table and shared by every match referring to them when read back.
+ * Reading and writing work directly on the given {@link ByteBuffer}, which may be a direct or memory-mapped one,
+ * without any intermediate copy of the board.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public final class BoardSnapshotCodec {
+
+    public static final int MAGIC = 0x5342534E;
+    public static final short FORMAT_VERSION = 2;
+    private static final short UNVERSIONED_FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int MATCH_SIZE = 6 * Integer.BYTES;
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private BoardSnapshotCodec() {
+    }
+
+    /**
+     * @return the board encoded into a new heap buffer, flipped for reading.
+     */
+    public static ByteBuffer encode(ScoreBoardDAO scoreBoardDAO) {
+        Encoder encoder = new Encoder(scoreBoardDAO);
+        ByteBuffer buffer = ByteBuffer.allocate(encoder.size());
+        encoder.writeTo(buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * Writes the board at the position of the buffer.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer has not enough room, nothing is written then.
+     */
+    public static void encode(ScoreBoardDAO scoreBoardDAO, ByteBuffer buffer) {
+        Encoder encoder = new Encoder(scoreBoardDAO);
+        if (buffer.remaining() < encoder.size()) {
+            throw new BufferOverflowException();
+        }
+        encoder.writeTo(buffer);
+    }
+
+    /**
+     * Reads a board from the position of the buffer and moves past it.
+     *
+     * @throws IllegalArgumentException if the buffer does not hold a whole, well formed snapshot of a supported
+     *                                  format version.
+     */
+    public static BoardSnapshot decode(ByteBuffer buffer) {
+        ByteBuffer source = buffer.order() == ByteOrder.BIG_ENDIAN ? buffer : buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (source.remaining() < HEADER_SIZE || source.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Buffer does not hold a score board snapshot.");
+        }
+        short formatVersion = source.getShort();
+        if (formatVersion != FORMAT_VERSION && formatVersion != UNVERSIONED_FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported score board snapshot version: " + formatVersion);
+        }
+        long boardVersion = source.getLong();
+        int lastMatchId = source.getInt();
+        requireRemaining(source, 1, Integer.BYTES);
+        int nameCount = source.getInt();
+        requireRemaining(source, nameCount, Short.BYTES);
+        String[] names = new String[nameCount];
+        byte[] nameBytes = new byte[MAX_NAME_BYTES];
+        for (int i = 0; i < names.length; i++) {
+            requireRemaining(source, 1, Short.BYTES);
+            int length = Short.toUnsignedInt(source.getShort());
+            requireRemaining(source, length, Byte.BYTES);
+            source.get(nameBytes, 0, length);
+            names[i] = new String(nameBytes, 0, length, StandardCharsets.UTF_8);
+        }
+        requireRemaining(source, 1, Integer.BYTES);
+        int matchCount = source.getInt();
+        int matchSize = formatVersion == FORMAT_VERSION ? MATCH_SIZE : MATCH_SIZE - Integer.BYTES;
+        requireRemaining(source, matchCount, matchSize);
+        List<Match> matches = new ArrayList<>(matchCount);
+        for (int i = 0; i < matchCount; i++) {
+            int id = source.getInt();
+            Match match = Match.getNewMatch(id, nameAt(names, source.getInt()), nameAt(names, source.getInt()));
+            int homeScore = source.getInt();
+            int awayScore = source.getInt();
+            int version = formatVersion == FORMAT_VERSION ? source.getInt() : homeScore + awayScore;
+            matches.add(Match.getNewMatch(match, homeScore, awayScore, version));
+        }
+        if (source != buffer) {
+            buffer.position(source.position());
+        }
+        return new BoardSnapshot(boardVersion, lastMatchId, matches);
+    }
+
+    /**
+     * Checks a count read from the buffer before anything is allocated or read for it, so a truncated or corrupted
+     * snapshot is reported as such instead of failing on the buffer or on a huge allocation.
+     */
+    private static void requireRemaining(ByteBuffer source, int count, int bytesEach) {
+        if (count < 0 || (long) count * bytesEach > source.remaining()) {
+            throw new IllegalArgumentException("Score board snapshot is truncated or corrupted.");
+        }
+    }
+
+    private static String nameAt(String[] names, int index) {
+        if (index < 0 || index >= names.length) {
+            throw new IllegalArgumentException("Score board snapshot refers to an unknown team name: " + index);
+        }
+        return names[index];
+    }
+
+    /**
+     * Reads a board from the buffer and puts its matches on the given, empty, board.
+     */
+    public static BoardSnapshot restore(ByteBuffer buffer, ScoreBoardDAO scoreBoardDAO) {
+        BoardSnapshot snapshot = decode(buffer);
+        scoreBoardDAO.restoreAll(snapshot.matches(), snapshot.lastMatchId());
+        return snapshot;
+    }
+
+    /**
+     * Captures the board once and builds its string table, so the size is known before anything is written.
+     */
+    private static final class Encoder {
+
+        private final long boardVersion;
+        private final int lastMatchId;
+        private final Match[] matches;
+        private final Map<String, Integer> nameIndexes = new HashMap<>();
+        private final List<byte[]> names = new ArrayList<>();
+        private int size;
+
+        Encoder(ScoreBoardDAO scoreBoardDAO) {
+            int allocatedId = scoreBoardDAO.getLastMatchId();
+            SummarySnapshot summary = scoreBoardDAO.findSummarySnapshot();
+            this.boardVersion = summary.version();
+            this.matches = summary.matches().toArray(new Match[0]);
+            Arrays.sort(matches, Comparator.comparingInt(Match::id));
+            this.lastMatchId = Math.max(allocatedId, matches.length == 0 ? 0 : matches[matches.length - 1].id());
+            size = HEADER_SIZE + 2 * Integer.BYTES + matches.length * MATCH_SIZE;
+            for (Match match : matches) {
+                indexOf(match.getHomeTeamName());
+                indexOf(match.getAwayTeamName());
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeTo(ByteBuffer buffer) {
+            ByteBuffer target = buffer.order() == ByteOrder.BIG_ENDIAN ? buffer : buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+            target.putInt(MAGIC).putShort(FORMAT_VERSION).putLong(boardVersion).putInt(lastMatchId);
+            target.putInt(names.size());
+            for (byte[] name : names) {
+                target.putShort((short) name.length).put(name);
+            }
+            target.putInt(matches.length);
+            for (Match match : matches) {
+                target.putInt(match.id())
+                        .putInt(nameIndexes.get(match.getHomeTeamName()))
+                        .putInt(nameIndexes.get(match.getAwayTeamName()))
+                        .putInt(match.getHomeTeamScore())
+                        .putInt(match.getAwayTeamScore())
+                        .putInt(match.getVersion());
+            }
+            if (target != buffer) {
+                buffer.position(target.position());
+            }
+        }
+
+        private void indexOf(String name) {
+            nameIndexes.computeIfAbsent(name, n -> {
+                byte[] bytes = n.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > MAX_NAME_BYTES) {
+                    throw new IllegalArgumentException("Team Name is too long to be stored in a snapshot.");
+                }
+                names.add(bytes);
+                size += Short.BYTES + bytes.length;
+                return names.size() - 1;
+            });
+        }
+    }
+}
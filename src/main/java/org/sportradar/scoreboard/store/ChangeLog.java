@@ -0,0 +1,69 @@
+package org.sportradar.scoreboard.store;
+
+import org.sportradar.scoreboard.entities.Match;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The latest changes of a board, kept in a fixed size ring buffer with one slot per version.
+ * <p>
+ * Every entry holds the changes of one version of the board: the new state of each match it changed, or its
+ * removal. A version goes to the slot of its number modulo the capacity, so the oldest versions are overwritten
+ * once the ring is full. Versions may be appended out of order and more than once, by whichever writer gets there
+ * first; a slot always keeps the newest version appended to it, so neither costs a lock.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public final class ChangeLog {
+
+    private final AtomicReferenceArray<Entry> entries;
+
+    /**
+     * @param capacity number of versions kept.
+     */
+    public ChangeLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be a positive number.");
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * @param version version of the board the changes belong to.
+     * @param changes the new state of every match changed by that version, mapped to {@code null} for a removed
+     *                match. The map must not change once appended.
+     */
+    public void append(long version, Map<Integer, Match> changes) {
+        entries.accumulateAndGet(slot(version), new Entry(version, changes),
+                (kept, appended) -> kept != null && kept.version >= appended.version ? kept : appended);
+    }
+
+    /**
+     * @return the latest state of every match changed after the since version up to the until version, mapped to
+     * {@code null} for a removed match, or {@code null} if some of these versions are no longer or not yet kept.
+     */
+    public Map<Integer, Match> changesBetween(long sinceVersion, long untilVersion) {
+        if (untilVersion - sinceVersion > entries.length()) {
+            return null;
+        }
+        Map<Integer, Match> changes = new HashMap<>();
+        for (long version = sinceVersion + 1; version <= untilVersion; version++) {
+            Entry entry = entries.get(slot(version));
+            if (entry == null || entry.version != version) {
+                return null;
+            }
+            changes.putAll(entry.changes);
+        }
+        return changes;
+    }
+
+    private int slot(long version) {
+        return (int) (version % entries.length());
+    }
+
+    private record Entry(long version, Map<Integer, Match> changes) {
+    }
+}
@@ -0,0 +1,273 @@
+package org.sportradar.scoreboard.store;
+
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.Team;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * An in-memory, thread safe store of the ongoing matches.
+ * <p>
+ * Matches are indexed by id, by team and by the ordered (home, away) pair of teams, so every lookup done while
+ * starting, updating or finishing a match is a constant time hash lookup. Teams are keyed by the int id the
+ * {@link TeamRegistry#shared() shared team registry} gave their canonical name when the {@link Team} was created, so
+ * a lookup by team is a single int lookup and only a lookup by name resolves the name first. A team is pinned in
+ * the registry while it plays, so its id stays registered. Writers never take a global lock: a new match
+ * atomically claims its id, both of its teams and its pair before it becomes visible, and a failed claim is rolled
+ * back.
+ * <p>
+ * Next to the indexes, the store keeps the summary order of the board (highest total score first, then the most
+ * recently started match first) in a skip list which every write updates in O(log n), so reading the summary never
+ * sorts. The summary entry of a match is always changed while holding the id index entry of that match, hence
+ * concurrent writes to the same match can not leave a stale entry behind.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public class MatchStore {
+
+    private final ConcurrentMap<Integer, Match> matchesById = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, Integer> matchIdsByTeam = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Integer> matchIdsByPair = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<Long, Match> summary = new ConcurrentSkipListMap<>();
+    private final TeamRegistry teams = TeamRegistry.shared();
+
+    /**
+     * Adds a new match to the store.
+     *
+     * @param match the match to add.
+     * @return {@code false} if the id, one of the teams or the pair of teams is already taken by another match.
+     */
+    public boolean insert(Match match) {
+        Integer id = match.id();
+        String homeName = match.getHomeTeam().getCanonicalName();
+        String awayName = match.getAwayTeam().getCanonicalName();
+        int homeTeamId = teams.acquire(homeName, match.getHomeTeam().id());
+        int awayTeamId = teams.acquire(awayName, match.getAwayTeam().id());
+        if (!claim(id, homeTeamId, awayTeamId)) {
+            teams.release(homeName);
+            teams.release(awayName);
+            return false;
+        }
+        if (matchesById.computeIfAbsent(id, k -> {
+            summary.put(summaryKey(match), match);
+            return match;
+        }) != match) {
+            unclaim(id, homeTeamId, awayTeamId);
+            teams.release(homeName);
+            teams.release(awayName);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the stored state of a match having the same id. The teams of a match never change,
+     * so the team and pair indexes are left untouched.
+     *
+     * @param match the new state of the match.
+     * @return the replaced state, empty if there is no match with the same id.
+     */
+    public Optional<Match> replace(Match match) {
+        Match[] replaced = {null};
+        matchesById.computeIfPresent(match.id(), (id, current) -> {
+            summary.remove(summaryKey(current));
+            summary.put(summaryKey(match), match);
+            replaced[0] = current;
+            return match;
+        });
+        return Optional.ofNullable(replaced[0]);
+    }
+
+    /**
+     * Replaces the stored state of a match only if it is the state the new one was derived from, that is its
+     * version is one lower. Writes to different matches never wait for each other.
+     *
+     * @param match the new state of the match.
+     * @return the replaced state, empty if there is no match with the same id or it was changed meanwhile.
+     */
+    public Optional<Match> compareAndReplace(Match match) {
+        Match[] replaced = {null};
+        matchesById.computeIfPresent(match.id(), (id, current) -> {
+            if (current.getVersion() != match.getVersion() - 1) {
+                return current;
+            }
+            summary.remove(summaryKey(current));
+            summary.put(summaryKey(match), match);
+            replaced[0] = current;
+            return match;
+        });
+        return Optional.ofNullable(replaced[0]);
+    }
+
+    /**
+     * Removes the match with the same id and releases its teams.
+     *
+     * @param match the match to remove.
+     * @return the removed match, if any.
+     */
+    public Optional<Match> remove(Match match) {
+        Integer id = match.id();
+        Match[] removedHolder = new Match[1];
+        matchesById.computeIfPresent(id, (k, current) -> {
+            summary.remove(summaryKey(current));
+            removedHolder[0] = current;
+            return null;
+        });
+        Match removed = removedHolder[0];
+        if (removed == null) {
+            return Optional.empty();
+        }
+        String homeName = removed.getHomeTeam().getCanonicalName();
+        String awayName = removed.getAwayTeam().getCanonicalName();
+        unclaim(id, teams.find(homeName), teams.find(awayName));
+        teams.release(homeName);
+        teams.release(awayName);
+        return Optional.of(removed);
+    }
+
+    public Optional<Match> findById(int matchId) {
+        return Optional.ofNullable(matchesById.get(matchId));
+    }
+
+    /**
+     * @return the match played between the given home and away teams, team names are compared case-insensitively.
+     */
+    public Optional<Match> findByPair(String homeTeamName, String awayTeamName) {
+        return findByTeamIds(teams.find(Team.canonicalName(homeTeamName)),
+                teams.find(Team.canonicalName(awayTeamName)));
+    }
+
+    /**
+     * @return the match played between the given home and away teams, found by the ids the teams carry.
+     */
+    public Optional<Match> findByPair(Team homeTeam, Team awayTeam) {
+        return findByTeamIds(homeTeam.id(), awayTeam.id());
+    }
+
+    /**
+     * @return the match the given team is playing in, either at home or away.
+     */
+    public Optional<Match> findByTeam(String teamName) {
+        return findByTeamId(teams.find(Team.canonicalName(teamName)));
+    }
+
+    /**
+     * @return the match the given team is playing in, found by the id the team carries.
+     */
+    public Optional<Match> findByTeam(Team team) {
+        return findByTeamId(team.id());
+    }
+
+    public Collection<Match> findAll() {
+        return Collections.unmodifiableCollection(matchesById.values());
+    }
+
+    /**
+     * @return a live, read-only view of the matches in summary order. Iterating it never sorts, and it reflects
+     * writes made while iterating in a weakly consistent way.
+     */
+    public Collection<Match> findAllOrdered() {
+        return Collections.unmodifiableCollection(summary.values());
+    }
+
+    /**
+     * Reads the matches ranked after a summary key, in summary order, without touching the rest of the summary.
+     * It costs O(log n + limit).
+     *
+     * @param afterKey the {@link #summaryKey(Match) summary key} to start after, {@link Long#MIN_VALUE} to start
+     *                 at the top.
+     * @param limit    maximum number of matches to read.
+     * @return an unmodifiable list of at most limit matches.
+     */
+    public List<Match> findOrderedAfter(long afterKey, int limit) {
+        List<Match> matches = new ArrayList<>(Math.min(limit, 64));
+        Iterator<Match> iterator = summary.tailMap(afterKey, false).values().iterator();
+        while (matches.size() < limit && iterator.hasNext()) {
+            matches.add(iterator.next());
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Counts the matches ranked between two states of a match in the summary, that is the matches the match went
+     * past when its score changed from the previous to the updated state. It costs O(log n + k) for k such matches.
+     */
+    public int countRankedBetween(Match previous, Match updated) {
+        long previousKey = summaryKey(previous);
+        long updatedKey = summaryKey(updated);
+        if (previousKey == updatedKey) {
+            return 0;
+        }
+        return summary.subMap(Math.min(previousKey, updatedKey), false, Math.max(previousKey, updatedKey), false)
+                .size();
+    }
+
+    public int size() {
+        return matchesById.size();
+    }
+
+    /**
+     * Packs the total score and the id of a match into a key whose natural order is the summary order:
+     * a higher total score comes first and, for the same total score, the most recently started match comes first.
+     * A key never equals {@link Long#MIN_VALUE}.
+     */
+    public static long summaryKey(Match match) {
+        long totalScore = match.getTotalScore();
+        return -((totalScore << 32) | (match.id() & 0xFFFFFFFFL));
+    }
+
+    private Optional<Match> findByTeamIds(int homeTeamId, int awayTeamId) {
+        if (homeTeamId == TeamRegistry.NO_TEAM || awayTeamId == TeamRegistry.NO_TEAM) {
+            return Optional.empty();
+        }
+        Integer id = matchIdsByPair.get(pairKey(homeTeamId, awayTeamId));
+        return id == null ? Optional.empty() : Optional.ofNullable(matchesById.get(id));
+    }
+
+    private Optional<Match> findByTeamId(int teamId) {
+        if (teamId == TeamRegistry.NO_TEAM) {
+            return Optional.empty();
+        }
+        Integer id = matchIdsByTeam.get(teamId);
+        return id == null ? Optional.empty() : Optional.ofNullable(matchesById.get(id));
+    }
+
+    /**
+     * Claims both teams and the pair of teams for a match, all or nothing.
+     */
+    private boolean claim(Integer id, int homeTeamId, int awayTeamId) {
+        if (matchIdsByTeam.putIfAbsent(homeTeamId, id) != null) {
+            return false;
+        }
+        if (matchIdsByTeam.putIfAbsent(awayTeamId, id) != null) {
+            matchIdsByTeam.remove(homeTeamId, id);
+            return false;
+        }
+        if (matchIdsByPair.putIfAbsent(pairKey(homeTeamId, awayTeamId), id) != null) {
+            matchIdsByTeam.remove(homeTeamId, id);
+            matchIdsByTeam.remove(awayTeamId, id);
+            return false;
+        }
+        return true;
+    }
+
+    private void unclaim(Integer id, int homeTeamId, int awayTeamId) {
+        matchIdsByPair.remove(pairKey(homeTeamId, awayTeamId), id);
+        matchIdsByTeam.remove(homeTeamId, id);
+        matchIdsByTeam.remove(awayTeamId, id);
+    }
+
+    private static long pairKey(int homeTeamId, int awayTeamId) {
+        return ((long) homeTeamId << 32) | (awayTeamId & 0xFFFFFFFFL);
+    }
+}
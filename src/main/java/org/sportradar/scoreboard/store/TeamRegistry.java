@@ -0,0 +1,187 @@
+package org.sportradar.scoreboard.store;
+
+import org.sportradar.scoreboard.entities.Team;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gives every canonical team name a compact int id, so the store indexes and compares teams by int.
+ * <p>
+ * A team is pinned while it plays and can not be evicted then. Once the registry holds more than its capacity,
+ * the teams which are not playing and were used least recently are evicted in one batch, down to seven eighths of
+ * the capacity, which bounds the memory taken by teams that stopped playing. When every team is playing the
+ * registry grows past its capacity instead, and the next eviction waits for another eighth of the capacity to be
+ * registered, so a full scan never runs on every new team. Ids of evicted teams are never reused, so an id found for a name
+ * always stands for that name.
+ * <p>
+ * The {@link #shared() shared} registry gives every {@link Team} its id when the team is created, so the store
+ * indexes and finds teams by the id they carry without hashing their names again.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public final class TeamRegistry {
+
+    public static final int NO_TEAM = 0;
+    private static final int SHARED_CAPACITY = 1 << 16;
+    private static final TeamRegistry SHARED = new TeamRegistry(SHARED_CAPACITY);
+
+    private final ConcurrentMap<String, TeamEntry> teams = new ConcurrentHashMap<>();
+    private final AtomicInteger lastTeamId = new AtomicInteger(NO_TEAM);
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int capacity;
+    private volatile int evictionThreshold;
+
+    TeamRegistry(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Team capacity should be a positive number.");
+        }
+        this.capacity = capacity;
+        this.evictionThreshold = capacity;
+    }
+
+    /**
+     * @return the registry giving teams their ids, shared by every board.
+     */
+    public static TeamRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Registers the team if needed, without pinning it.
+     *
+     * @return the id of the team.
+     */
+    public int register(String canonicalName) {
+        TeamEntry entry = teams.computeIfAbsent(canonicalName, name -> new TeamEntry(lastTeamId.incrementAndGet()));
+        entry.lastUsedNanos = System.nanoTime();
+        if (teams.size() > evictionThreshold) {
+            evict();
+        }
+        return entry.id;
+    }
+
+    /**
+     * @return the id of a registered team, or {@link #NO_TEAM} if the name was never registered or was evicted.
+     */
+    int find(String canonicalName) {
+        TeamEntry entry = teams.get(canonicalName);
+        return entry == null || entry.isEvicted() ? NO_TEAM : entry.id;
+    }
+
+    /**
+     * Registers the team if needed and pins it until a matching {@link #release(String)}.
+     *
+     * @return the id of the team.
+     */
+    int acquire(String canonicalName) {
+        return acquire(canonicalName, NO_TEAM);
+    }
+
+    /**
+     * Registers the team if needed and pins it until a matching {@link #release(String)}. A team evicted since it
+     * was given its id is registered again under that id, which still stands for its name.
+     *
+     * @param knownId the id the team was given before, {@link #NO_TEAM} if none.
+     * @return the id of the team.
+     */
+    int acquire(String canonicalName, int knownId) {
+        while (true) {
+            TeamEntry entry = teams.computeIfAbsent(canonicalName,
+                    name -> new TeamEntry(knownId != NO_TEAM ? knownId : lastTeamId.incrementAndGet()));
+            if (entry.pin()) {
+                if (teams.size() > evictionThreshold) {
+                    evict();
+                }
+                return entry.id;
+            }
+            teams.remove(canonicalName, entry);
+        }
+    }
+
+    /**
+     * Unpins a team acquired before.
+     */
+    void release(String canonicalName) {
+        TeamEntry entry = teams.get(canonicalName);
+        if (entry != null) {
+            entry.unpin();
+        }
+    }
+
+    int size() {
+        return teams.size();
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = teams.size() - capacity + capacity / 8;
+            if (excess <= 0) {
+                evictionThreshold = capacity;
+                return;
+            }
+            List<Map.Entry<String, TeamEntry>> idle = new ArrayList<>();
+            for (Map.Entry<String, TeamEntry> team : teams.entrySet()) {
+                if (team.getValue().pins.get() == 0) {
+                    idle.add(team);
+                }
+            }
+            idle.sort(Comparator.comparingLong(team -> team.getValue().lastUsedNanos));
+            for (int i = 0; i < idle.size() && excess > 0; i++) {
+                Map.Entry<String, TeamEntry> team = idle.get(i);
+                if (team.getValue().pins.compareAndSet(0, -1)) {
+                    teams.remove(team.getKey(), team.getValue());
+                    excess--;
+                }
+            }
+            evictionThreshold = Math.max(capacity, teams.size() + Math.max(1, capacity / 8));
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class TeamEntry {
+
+        private final int id;
+        private final AtomicInteger pins = new AtomicInteger();
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        TeamEntry(int id) {
+            this.id = id;
+        }
+
+        /**
+         * @return {@code false} if the entry was evicted meanwhile.
+         */
+        boolean pin() {
+            int current;
+            do {
+                current = pins.get();
+                if (current < 0) {
+                    return false;
+                }
+            } while (!pins.compareAndSet(current, current + 1));
+            lastUsedNanos = System.nanoTime();
+            return true;
+        }
+
+        void unpin() {
+            lastUsedNanos = System.nanoTime();
+            pins.decrementAndGet();
+        }
+
+        boolean isEvicted() {
+            return pins.get() < 0;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.sportradar.scoreboard.store;
+
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.Team;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Lock stripes ordering the writes to a board per match and per team.
+ * <p>
+ * A write holds the stripe of every match it changes, and a write starting or finishing a match also holds the
+ * stripes of its teams. Two writes to the same match, or a finish and a start handing a team over, therefore never
+ * overlap, while writes to unrelated matches run in parallel unless their stripes collide. A write holding several
+ * stripes takes them in ascending order, so writes never deadlock, and stripes are reentrant, so a write may run a
+ * nested write of the same matches.
+ *
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+public final class WriteOrder {
+
+    private final ReentrantLock[] stripes;
+    private final int[] allStripes;
+
+    /**
+     * @param stripes number of lock stripes, rounded up to a power of two.
+     */
+    public WriteOrder(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Number of stripes should be a positive number.");
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        this.allStripes = new int[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+            this.allStripes[i] = i;
+        }
+    }
+
+    /**
+     * Runs an action holding the stripe of a match, for writes which only change its score.
+     */
+    public <T> T run(int matchId, Supplier<T> action) {
+        ReentrantLock stripe = stripes[stripeOf(matchId)];
+        stripe.lock();
+        try {
+            return action.get();
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Runs an action holding the stripes of a match and of its teams, for writes starting or finishing it.
+     */
+    public <T> T run(Match match, Supplier<T> action) {
+        BitSet held = new BitSet(stripes.length);
+        hold(held, match);
+        return run(held.stream().toArray(), action);
+    }
+
+    /**
+     * Runs an action holding the stripes of several matches and of their teams, for writes changing them together.
+     */
+    public <T> T run(Collection<Match> matches, Supplier<T> action) {
+        BitSet held = new BitSet(stripes.length);
+        for (Match match : matches) {
+            hold(held, match);
+        }
+        return run(held.stream().toArray(), action);
+    }
+
+    /**
+     * Runs an action holding every stripe, so no ordered write is in progress while it runs.
+     */
+    public <T> T runExclusively(Supplier<T> action) {
+        return run(allStripes, action);
+    }
+
+    private <T> T run(int[] heldStripes, Supplier<T> action) {
+        for (int stripe : heldStripes) {
+            stripes[stripe].lock();
+        }
+        try {
+            return action.get();
+        } finally {
+            for (int i = heldStripes.length - 1; i >= 0; i--) {
+                stripes[heldStripes[i]].unlock();
+            }
+        }
+    }
+
+    private void hold(BitSet held, Match match) {
+        held.set(stripeOf(match.id()));
+        held.set(stripeOf(match.getHomeTeam()));
+        held.set(stripeOf(match.getAwayTeam()));
+    }
+
+    private int stripeOf(Team team) {
+        return stripeOf(team.hashCode());
+    }
+
+    private int stripeOf(int hash) {
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+}
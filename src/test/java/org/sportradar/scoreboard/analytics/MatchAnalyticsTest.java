@@ -0,0 +1,124 @@
+package org.sportradar.scoreboard.analytics;
+
+import org.junit.jupiter.api.Test;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class MatchAnalyticsTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2026-10-18T20:00:00Z");
+
+    @Test
+    void updateScore_should_record_the_timeline_and_the_tournament_aggregates() {
+        //GIVEN
+        MutableClock clock = new MutableClock(KICK_OFF);
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        MatchAnalytics analytics = new MatchAnalytics(clock);
+        service.addListener(analytics);
+        int mexico = service.startNewMatch("Mexico", "Canada");
+        int spain = service.startNewMatch("Spain", "Brazil");
+
+        //WHEN
+        clock.advance(Duration.ofMinutes(10));
+        service.updateScore(mexico, 0, 2);
+        service.updateScore(spain, 1, 0);
+        clock.advance(Duration.ofMinutes(20));
+        service.updateScore(mexico, 3, 2);
+        service.finishMatch(mexico);
+        int mexicoAgain = service.startNewMatch("MEXICO", "Uruguay");
+        service.updateScore(mexicoAgain, 1, 0);
+
+        //THEN
+        GoalTimeline timeline = analytics.getTimeline(spain).orElseThrow();
+        assertEquals(1, timeline.size());
+        assertEquals(KICK_OFF.plus(Duration.ofMinutes(10)).toEpochMilli(), timeline.timeAt(0));
+        assertEquals(1, timeline.homeScoreAt(0));
+        assertEquals(0.1, timeline.goalsPerMinute(clock.millis() - Duration.ofMinutes(20).toMillis()));
+        assertEquals(Optional.empty(), analytics.getTimeline(mexico));
+        assertEquals(new TeamGoals("Mexico", 4, 2), analytics.getTeamGoals("mexico").orElseThrow());
+        assertEquals(new TeamGoals("Canada", 2, 3), analytics.getTeamGoals("Canada").orElseThrow());
+        assertEquals(List.of(new TeamGoals("Mexico", 4, 2), new TeamGoals("Canada", 2, 3)),
+                analytics.getTopScoringTeams(2));
+        assertEquals(new Comeback(mexico, "Mexico", 2), analytics.getBiggestComeback().orElseThrow());
+        assertEquals(7, analytics.getTotalGoals());
+    }
+
+    @Test
+    void onScoreUpdated_should_count_goals_once_when_updates_are_told_out_of_order() {
+        //GIVEN
+        MatchAnalytics analytics = new MatchAnalytics(new MutableClock(KICK_OFF));
+        Match started = Match.getNewMatch(1, "Mexico", "Canada");
+        Match first = Match.getNewMatch(started, 1, 0);
+        Match second = Match.getNewMatch(first, 2, 1);
+        analytics.onMatchStarted(started);
+
+        //WHEN
+        analytics.onScoreUpdated(first, second);
+        analytics.onScoreUpdated(started, first);
+
+        //THEN
+        assertEquals(3, analytics.getTotalGoals());
+        assertEquals(1, analytics.getTimeline(1).orElseThrow().size());
+        assertEquals(new TeamGoals("Mexico", 2, 1), analytics.getTeamGoals("Mexico").orElseThrow());
+    }
+
+    @Test
+    void onScoreUpdated_should_not_bring_back_the_timeline_of_a_finished_match() {
+        //GIVEN
+        MatchAnalytics analytics = new MatchAnalytics(new MutableClock(KICK_OFF));
+        Match started = Match.getNewMatch(1, "Mexico", "Canada");
+        Match first = Match.getNewMatch(started, 1, 0);
+        analytics.onMatchStarted(started);
+        analytics.onMatchFinished(started);
+
+        //WHEN
+        analytics.onScoreUpdated(started, first);
+
+        //THEN
+        assertTrue(analytics.getTimeline(1).isEmpty());
+        assertEquals(0, analytics.getTotalGoals());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.sportradar.scoreboard.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class MatchArchiveTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 10, 17);
+    private static final LocalDate SECOND_DAY = FIRST_DAY.plusDays(1);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void finishMatch_should_archive_the_result_in_the_partition_of_its_day() {
+        //GIVEN
+        MutableClock clock = new MutableClock(FIRST_DAY.atTime(20, 0).toInstant(ZoneOffset.UTC));
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        try (MatchArchive archive = MatchArchive.open(directory, clock)) {
+            service.addListener(archive);
+            int mexico = service.startNewMatch("Mexico", "Canada");
+            service.updateScore(mexico, 0, 5);
+            clock.advance(Duration.ofMinutes(90));
+            //WHEN
+            service.finishMatch(mexico);
+            clock.advance(Duration.ofDays(1));
+            int spain = service.startNewMatch("Spain", "mexico");
+            service.updateScore(spain, 2, 2);
+            service.finishMatch(spain);
+            //THEN
+            assertEquals(2, archive.getArchivedCount());
+            List<ArchivedMatch> firstDay = archive.findBetween(FIRST_DAY, FIRST_DAY);
+            assertEquals(1, firstDay.size());
+            assertEquals(new ArchivedMatch(mexico, "Mexico", "Canada", 0, 5,
+                    FIRST_DAY.atTime(20, 0).toInstant(ZoneOffset.UTC),
+                    FIRST_DAY.atTime(21, 30).toInstant(ZoneOffset.UTC)), firstDay.get(0));
+            assertEquals(List.of(mexico, spain), archive.findByTeam("MEXICO", FIRST_DAY, SECOND_DAY).stream()
+                    .map(ArchivedMatch::matchId).toList());
+            assertEquals(List.of(), archive.findByTeam("Canada", SECOND_DAY, SECOND_DAY));
+            assertEquals(List.of(), archive.findByTeam("Brazil", FIRST_DAY, SECOND_DAY));
+        }
+    }
+
+    @Test
+    void open_should_serve_the_matches_archived_before_a_restart() {
+        //GIVEN
+        MutableClock clock = new MutableClock(SECOND_DAY.atStartOfDay().toInstant(ZoneOffset.UTC));
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        try (MatchArchive archive = MatchArchive.open(directory, clock)) {
+            service.addListener(archive);
+            for (int i = 0; i < 3_000; i++) {
+                int id = service.startNewMatch("Home " + i % 50, "Away " + i % 50);
+                service.updateScore(id, i % 7, 1);
+                service.finishMatch(id);
+            }
+        }
+        //WHEN
+        try (MatchArchive reopened = MatchArchive.open(directory, clock)) {
+            //THEN
+            assertEquals(3_000, reopened.getArchivedCount());
+            List<ArchivedMatch> matches = reopened.findByTeam("away 7", SECOND_DAY, SECOND_DAY);
+            assertEquals(60, matches.size());
+            assertEquals("Away 7", matches.get(0).awayTeamName());
+            assertEquals(1, matches.get(59).awayTeamScore());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
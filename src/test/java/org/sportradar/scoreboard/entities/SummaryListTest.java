@@ -0,0 +1,61 @@
+package org.sportradar.scoreboard.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class SummaryListTest {
+
+    private static final Comparator<Match> SUMMARY_ORDER = Comparator.comparingInt(Match::getTotalScore)
+            .thenComparingInt(Match::id).reversed();
+
+    @Test
+    void with_and_without_should_keep_summary_order_and_leave_previous_lists_unchanged() {
+        //GIVEN
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Integer, Match> live = new HashMap<>();
+        SummaryList summary = SummaryList.empty();
+        //WHEN
+        for (int step = 0; step < 5000; step++) {
+            SummaryList before = summary;
+            List<Match> expectedBefore = new ArrayList<>(before);
+            int id = random.nextInt(1, 300);
+            Match current = live.get(id);
+            if (current == null) {
+                current = Match.getNewMatch(id, "Home " + id, "Away " + id);
+                summary = summary.with(current);
+                live.put(id, current);
+            } else if (random.nextInt(4) == 0) {
+                summary = summary.without(current);
+                live.remove(id);
+            } else {
+                Match updated = Match.getNewMatch(current, current.getHomeTeam().getScore() + random.nextInt(3),
+                        current.getAwayTeam().getScore() + 1);
+                summary = summary.without(current).with(updated);
+                live.put(id, updated);
+            }
+            //THEN
+            assertEquals(expectedBefore, before);
+        }
+        List<Match> expected = new ArrayList<>(live.values());
+        expected.sort(SUMMARY_ORDER);
+        assertEquals(expected, summary);
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), summary.get(i));
+        }
+        assertSame(summary, summary.without(Match.getNewMatch(1000, "Unknown", "Team")));
+        assertThrows(IndexOutOfBoundsException.class, () -> SummaryList.empty().get(0));
+        assertThrows(UnsupportedOperationException.class, () -> SummaryList.empty().add(expected.get(0)));
+    }
+}
@@ -0,0 +1,161 @@
+package org.sportradar.scoreboard.events;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.ScoreUpdate;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class ScoreBoardEventPublisherTest {
+
+    private ScoreBoardDAO scoreBoardDAO;
+    private ScoreBoardService scoreBoardService;
+
+    @BeforeEach
+    void init() {
+        scoreBoardDAO = new ScoreBoardDAO();
+        scoreBoardService = new ScoreBoardService(scoreBoardDAO);
+    }
+
+    @Test
+    void subscriber_should_receive_every_change_in_order() {
+        //GIVEN
+        ScoreBoardEventPublisher publisher = publisher(16, ScoreBoardEventPublisher.OverflowPolicy.DROP_OLDEST);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        //WHEN
+        int id1 = scoreBoardService.startNewMatch("Mexico", "Canada");
+        int id2 = scoreBoardService.startNewMatch("Spain", "Brazil");
+        scoreBoardService.updateScore(id1, 1, 0);
+        scoreBoardService.finishMatch(id2);
+        publisher.close();
+
+        //THEN
+        assertEquals(5, subscriber.events.size());
+        assertInstanceOf(ScoreBoardEvent.MatchStarted.class, subscriber.events.get(0));
+        assertInstanceOf(ScoreBoardEvent.MatchStarted.class, subscriber.events.get(1));
+        ScoreBoardEvent.ScoreChanged scoreChanged = (ScoreBoardEvent.ScoreChanged) subscriber.events.get(2);
+        assertEquals(0, scoreChanged.previous().getHomeTeamScore());
+        assertEquals(1, scoreChanged.updated().getHomeTeamScore());
+        assertEquals(new ScoreBoardEvent.RankChanged(scoreChanged.updated(), 1), subscriber.events.get(3));
+        assertEquals(id2, subscriber.events.get(4).matchId());
+        assertInstanceOf(ScoreBoardEvent.MatchFinished.class, subscriber.events.get(4));
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void slow_subscriber_should_get_coalesced_scores_and_lose_oldest_events() {
+        //GIVEN
+        ScoreBoardEventPublisher publisher = publisher(2, ScoreBoardEventPublisher.OverflowPolicy.COALESCE_SCORES);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        int id = scoreBoardService.startNewMatch("Mexico", "Canada");
+
+        //WHEN
+        for (int goals = 1; goals <= 10; goals++) {
+            scoreBoardService.updateScore(id, goals, 0);
+        }
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        //THEN
+        assertEquals(0, publisher.getDroppedEvents());
+        assertEquals(2, subscriber.events.size());
+        ScoreBoardEvent.ScoreChanged scoreChanged = (ScoreBoardEvent.ScoreChanged) subscriber.events.get(1);
+        assertEquals(0, scoreChanged.previous().getHomeTeamScore());
+        assertEquals(10, scoreChanged.updated().getHomeTeamScore());
+
+        //WHEN
+        subscriber.subscription.request(-1);
+        scoreBoardService.startNewMatch("Spain", "Brazil");
+
+        //THEN
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    @Test
+    void full_buffer_should_drop_newest_events_when_policy_is_drop_newest() {
+        ScoreBoardEventPublisher publisher = publisher(1, ScoreBoardEventPublisher.OverflowPolicy.DROP_NEWEST);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        int id = scoreBoardService.startNewMatch("Mexico", "Canada");
+        scoreBoardService.updateScore(id, 1, 0);
+        subscriber.subscription.request(10);
+
+        assertEquals(1, publisher.getDroppedEvents());
+        assertEquals(1, subscriber.events.size());
+        assertInstanceOf(ScoreBoardEvent.MatchStarted.class, subscriber.events.get(0));
+    }
+
+    @Test
+    void rank_changes_should_count_matches_passed_when_each_update_of_a_batch_was_applied() {
+        //GIVEN
+        ScoreBoardEventPublisher publisher = publisher(16, ScoreBoardEventPublisher.OverflowPolicy.DROP_OLDEST);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        int mexicoId = scoreBoardService.startNewMatch("Mexico", "Canada");
+        int spainId = scoreBoardService.startNewMatch("Spain", "Brazil");
+        scoreBoardService.startNewMatch("Germany", "France");
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        //WHEN
+        scoreBoardService.updateScores(List.of(new ScoreUpdate(mexicoId, 1, 0), new ScoreUpdate(spainId, 2, 0)));
+
+        //THEN
+        List<ScoreBoardEvent> rankChanges = subscriber.events.stream()
+                .filter(event -> event instanceof ScoreBoardEvent.RankChanged)
+                .toList();
+        assertEquals(2, rankChanges.size());
+        assertEquals(mexicoId, rankChanges.get(0).matchId());
+        assertEquals(2, ((ScoreBoardEvent.RankChanged) rankChanges.get(0)).positionsGained());
+        assertEquals(spainId, rankChanges.get(1).matchId());
+        assertEquals(2, ((ScoreBoardEvent.RankChanged) rankChanges.get(1)).positionsGained());
+    }
+
+    private ScoreBoardEventPublisher publisher(int bufferSize, ScoreBoardEventPublisher.OverflowPolicy policy) {
+        ScoreBoardEventPublisher publisher = new ScoreBoardEventPublisher(scoreBoardDAO, Runnable::run, bufferSize, policy);
+        scoreBoardService.addListener(publisher);
+        return publisher;
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<ScoreBoardEvent> {
+
+        private final List<ScoreBoardEvent> events = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ScoreBoardEvent item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
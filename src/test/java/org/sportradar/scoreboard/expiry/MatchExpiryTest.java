@@ -0,0 +1,138 @@
+package org.sportradar.scoreboard.expiry;
+
+import org.junit.jupiter.api.Test;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.exceptions.MatchNotFoundException;
+import org.sportradar.scoreboard.services.ScoreBoardListener;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class MatchExpiryTest {
+
+    private static final Duration TICK = Duration.ofSeconds(1);
+
+    @Test
+    void expire_should_finish_matches_without_updates_for_the_inactivity_timeout() {
+        //GIVEN
+        MutableClock clock = new MutableClock(Instant.parse("2026-10-18T20:00:00Z"));
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        MatchExpiry expiry = new MatchExpiry(service, Duration.ofSeconds(10), MatchExpiry.Action.FINISH, TICK,
+                clock);
+        List<Integer> finished = new ArrayList<>();
+        service.addListener(expiry);
+        service.addListener(new ScoreBoardListener() {
+            @Override
+            public void onMatchFinished(Match match) {
+                finished.add(match.getId());
+            }
+        });
+        int mexico = service.startNewMatch("Mexico", "Canada");
+        int spain = service.startNewMatch("Spain", "Brazil");
+        clock.advance(Duration.ofSeconds(6));
+        service.updateScore(spain, 1, 0);
+
+        //WHEN
+        clock.advance(Duration.ofSeconds(5));
+        int firstExpired = expiry.expire();
+        clock.advance(Duration.ofSeconds(4));
+        int secondExpired = expiry.expire();
+
+        //THEN
+        assertEquals(1, firstExpired);
+        assertEquals(0, secondExpired);
+        assertEquals(List.of(mexico), finished);
+        assertEquals(List.of(spain), service.getSummary().stream().map(Match::getId).toList());
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(1, expiry.expire());
+        assertTrue(service.getSummary().isEmpty());
+        assertEquals(0, expiry.getScheduledCount());
+    }
+
+    @Test
+    void expireAfter_should_Throw_MatchNotFoundException_when_the_match_is_unknown_or_finished() {
+        //GIVEN
+        MutableClock clock = new MutableClock(Instant.parse("2026-10-18T20:00:00Z"));
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        MatchExpiry expiry = new MatchExpiry(service, null, MatchExpiry.Action.FLAG, TICK, clock);
+        service.addListener(expiry);
+        int mexico = service.startNewMatch("Mexico", "Canada");
+        service.finishMatch(mexico);
+
+        //WHEN //THEN
+        assertThrows(MatchNotFoundException.class, () -> expiry.expireAfter(mexico, Duration.ofSeconds(5)));
+        assertThrows(MatchNotFoundException.class, () -> expiry.expireAfter(42, Duration.ofSeconds(5)));
+        assertEquals(0, expiry.getScheduledCount());
+        clock.advance(Duration.ofSeconds(10));
+        assertEquals(0, expiry.expire());
+        assertTrue(expiry.getStaleMatchIds().isEmpty());
+    }
+
+    @Test
+    void expire_should_flag_stale_matches_until_they_are_updated() {
+        //GIVEN
+        MutableClock clock = new MutableClock(Instant.parse("2026-10-18T20:00:00Z"));
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        MatchExpiry expiry = new MatchExpiry(service, null, MatchExpiry.Action.FLAG, TICK, clock);
+        service.addListener(expiry);
+        int mexico = service.startNewMatch("Mexico", "Canada");
+        int spain = service.startNewMatch("Spain", "Brazil");
+        expiry.expireAfter(mexico, Duration.ofMinutes(2));
+
+        //WHEN
+        clock.advance(Duration.ofHours(3));
+        expiry.expire();
+
+        //THEN
+        assertEquals(Set.of(mexico), expiry.getStaleMatchIds());
+        assertEquals(2, service.getSummary().size());
+        service.updateScore(mexico, 1, 0);
+        assertTrue(expiry.getStaleMatchIds().isEmpty());
+        assertEquals(1, expiry.getScheduledCount());
+        service.finishMatch(spain);
+        service.finishMatch(mexico);
+        assertEquals(0, expiry.getScheduledCount());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.sportradar.scoreboard.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class TimingWheelTest {
+
+    @Test
+    void advance_should_fire_every_timer_by_the_first_tick_after_its_deadline() {
+        //GIVEN
+        long start = 1_000_003;
+        long tick = 10;
+        TimingWheel wheel = new TimingWheel(tick, start);
+        Random random = new Random(42);
+        int timers = 200_000;
+        long[] deadlines = new long[timers + 1];
+        for (int matchId = 1; matchId <= timers; matchId++) {
+            long delay = switch (matchId % 4) {
+                case 0 -> random.nextInt(1_000);
+                case 1 -> random.nextInt(1_000_000);
+                case 2 -> random.nextInt(100_000_000);
+                default -> 200_000_000L + random.nextInt(100_000_000);
+            };
+            deadlines[matchId] = start + delay;
+            wheel.schedule(matchId, deadlines[matchId]);
+        }
+        for (int matchId = 1; matchId <= timers; matchId += 10) {
+            deadlines[matchId] += 5_000;
+            wheel.schedule(matchId, deadlines[matchId]);
+        }
+        for (int matchId = 5; matchId <= timers; matchId += 100) {
+            assertTrue(wheel.cancel(matchId));
+            deadlines[matchId] = -1;
+        }
+
+        //WHEN
+        int[] fired = {0};
+        long previous = start - 1;
+        for (long now = start; wheel.size() > 0; now += 1 + random.nextInt(400_000)) {
+            long time = now;
+            long previousTime = previous;
+            wheel.advance(time, matchId -> {
+                fired[0]++;
+                long deadline = deadlines[matchId];
+                assertTrue(deadline >= 0 && deadline <= time, "fired before its deadline: " + matchId);
+                assertTrue(previousTime / tick < (deadline + tick - 1) / tick, "fired late: " + matchId);
+                deadlines[matchId] = -2;
+            });
+            previous = now;
+        }
+
+        //THEN
+        assertEquals(timers - timers / 100, fired[0]);
+        for (int matchId = 1; matchId <= timers; matchId++) {
+            assertTrue(deadlines[matchId] < 0);
+        }
+    }
+
+    @Test
+    void advance_should_fire_a_timer_on_the_tick_of_its_deadline() {
+        //GIVEN
+        TimingWheel wheel = new TimingWheel(1, 0);
+        List<Integer> fired = new ArrayList<>();
+        wheel.schedule(1, 4_096 * 64 + 5);
+        wheel.schedule(2, 64);
+
+        //WHEN
+        wheel.advance(63, fired::add);
+        wheel.advance(64, fired::add);
+        wheel.advance(4_096 * 64 + 4, fired::add);
+        wheel.advance(4_096 * 64 + 5, fired::add);
+
+        //THEN
+        assertEquals(List.of(2, 1), fired);
+        assertFalse(wheel.contains(1));
+    }
+}
@@ -0,0 +1,273 @@
+package org.sportradar.scoreboard.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.ScoreUpdate;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class MatchJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_should_rebuild_the_board_from_the_journal() {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = new ScoreBoardDAO();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        int mexicoId;
+        int spainId;
+        try (MatchJournal journal = openJournal(scoreBoardDAO)) {
+            service.addListener(journal);
+            mexicoId = service.startNewMatch("Mexico", "Canada");
+            spainId = service.startNewMatch("Spain", "Brazil");
+            int germanyId = service.startNewMatch("Germany", "France");
+            service.updateScore(mexicoId, 0, 4);
+            service.updateScore(mexicoId, 0, 5);
+            service.updateScores(List.of(new ScoreUpdate(spainId, 9, 2), new ScoreUpdate(spainId, 10, 2)));
+            service.finishMatch(germanyId);
+        }
+
+        //WHEN
+        ScoreBoardDAO recovered = new ScoreBoardDAO();
+        try (MatchJournal journal = openJournal(recovered)) {
+            ScoreBoardService recoveredService = new ScoreBoardService(recovered);
+
+            //THEN
+            List<Match> summary = recoveredService.getSummary();
+            assertEquals(2, summary.size());
+            assertEquals(spainId, summary.get(0).getId());
+            assertEquals(10, summary.get(0).getHomeTeamScore());
+            assertEquals(mexicoId, summary.get(1).getId());
+            assertEquals(5, summary.get(1).getAwayTeamScore());
+            assertEquals(2, summary.get(1).getVersion());
+            assertEquals(4, recoveredService.startNewMatch("Germany", "France"));
+        }
+    }
+
+    @Test
+    void compact_should_keep_only_ongoing_matches_and_empty_the_journal() throws IOException {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = new ScoreBoardDAO();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        int id;
+        try (MatchJournal journal = openJournal(scoreBoardDAO)) {
+            service.addListener(journal);
+            for (int i = 0; i < 100; i++) {
+                service.finishMatch(service.startNewMatch("Home" + i, "Away" + i));
+            }
+            id = service.startNewMatch("Mexico", "Canada");
+            service.updateScore(id, 1, 0);
+
+            //WHEN
+            journal.compact();
+            service.updateScore(id, 2, 0);
+        }
+
+        //THEN
+        assertTrue(Files.size(directory.resolve(MatchJournal.SNAPSHOT_FILE)) > 0);
+        ScoreBoardDAO recovered = new ScoreBoardDAO();
+        try (MatchJournal journal = openJournal(recovered)) {
+            assertEquals(1, recovered.findByAll().size());
+            assertEquals(2, recovered.findById(id).orElseThrow().getHomeTeamScore());
+            assertEquals(id, recovered.getLastMatchId());
+        }
+    }
+
+    @Test
+    void open_should_cut_off_a_torn_record_at_the_end_of_the_journal() throws IOException {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = new ScoreBoardDAO();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        try (MatchJournal journal = openJournal(scoreBoardDAO)) {
+            service.addListener(journal);
+            service.startNewMatch("Mexico", "Canada");
+        }
+        Path journalFile = directory.resolve(MatchJournal.JOURNAL_FILE);
+        long validSize = Files.size(journalFile);
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 42, 1, 2}));
+        }
+
+        //WHEN
+        ScoreBoardDAO recovered = new ScoreBoardDAO();
+        try (MatchJournal journal = openJournal(recovered)) {
+            //THEN
+            assertEquals(1, recovered.findByAll().size());
+            assertEquals(validSize, Files.size(journalFile));
+        }
+    }
+
+    @Test
+    void open_should_fail_on_a_corrupt_record_before_the_end_of_the_journal() throws IOException {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = new ScoreBoardDAO();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        try (MatchJournal journal = openJournal(scoreBoardDAO)) {
+            service.addListener(journal);
+            service.startNewMatch("Mexico", "Canada");
+            service.startNewMatch("Spain", "Brazil");
+            service.startNewMatch("Germany", "France");
+        }
+        Path journalFile = directory.resolve(MatchJournal.JOURNAL_FILE);
+        byte[] bytes = Files.readAllBytes(journalFile);
+        int secondRecord = JournalRecord.HEADER_SIZE + ByteBuffer.wrap(bytes).getInt(0);
+        bytes[secondRecord + JournalRecord.HEADER_SIZE + 1] ^= 0x7F;
+        Files.write(journalFile, bytes);
+
+        //WHEN
+        UncheckedIOException failure = assertThrows(UncheckedIOException.class,
+                () -> openJournal(new ScoreBoardDAO()));
+
+        //THEN
+        assertTrue(failure.getCause().getMessage().contains("offset " + secondRecord));
+        assertArrayEquals(bytes, Files.readAllBytes(journalFile));
+    }
+
+    @Test
+    void append_should_rethrow_the_failure_of_a_background_flush() throws Exception {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = new ScoreBoardDAO();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        FailingChannel channel = new FailingChannel();
+        MatchJournal journal = MatchJournal.open(directory, scoreBoardDAO, Duration.ofMillis(5), Long.MAX_VALUE,
+                file -> channel);
+        service.addListener(journal);
+        int mexicoId = service.startNewMatch("Mexico", "Canada");
+
+        //WHEN
+        assertTrue(channel.failed.await(5, TimeUnit.SECONDS));
+
+        //THEN
+        UncheckedIOException failure = assertThrows(UncheckedIOException.class, journal::flush);
+        assertEquals("disk full", failure.getCause().getMessage());
+        assertThrows(UncheckedIOException.class, () -> service.updateScore(mexicoId, 1, 0));
+        assertThrows(UncheckedIOException.class, journal::close);
+        assertFalse(channel.isOpen());
+    }
+
+        private MatchJournal openJournal(ScoreBoardDAO scoreBoardDAO) {
+        return MatchJournal.open(directory, scoreBoardDAO, Duration.ofMillis(5), Long.MAX_VALUE);
+    }
+
+    /**
+     * A journal channel whose first write fails, and which discards everything written after it.
+     */
+    private static final class FailingChannel extends FileChannel {
+
+        private final CountDownLatch failed = new CountDownLatch(1);
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failed.getCount() > 0) {
+                failed.countDown();
+                throw new IOException("disk full");
+            }
+            int written = src.remaining();
+            src.position(src.limit());
+            return written;
+        }
+
+        @Override
+        public void force(boolean metaData) {
+        }
+
+        @Override
+        public long size() {
+            return 0;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long position() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileChannel truncate(long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void implCloseChannel() {
+        }
+    }
+}
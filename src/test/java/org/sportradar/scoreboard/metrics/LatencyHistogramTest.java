@@ -0,0 +1,46 @@
+package org.sportradar.scoreboard.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void getValueAtPercentile_should_stay_within_the_precision_of_the_histogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos * 1_000);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(50_000_500, histogram.getMean(), 1);
+        assertWithinPrecision(50_000_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(99_000_000, histogram.getValueAtPercentile(99));
+        assertWithinPrecision(99_900_000, histogram.getValueAtPercentile(99.9));
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void record_should_keep_small_values_exact_and_accept_extremes() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getValueAtPercentile(33));
+        assertEquals(3, histogram.getValueAtPercentile(66));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(Math.abs(expected - actual) <= expected / 64, "expected ~" + expected + " but was " + actual);
+    }
+}
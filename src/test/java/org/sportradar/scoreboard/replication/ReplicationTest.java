@@ -0,0 +1,93 @@
+package org.sportradar.scoreboard.replication;
+
+import org.junit.jupiter.api.Test;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class ReplicationTest {
+
+    @Test
+    void followers_should_serve_the_board_of_the_leader_including_late_joiners() throws InterruptedException {
+        //GIVEN
+        InProcessReplicationTransport transport = new InProcessReplicationTransport();
+        ScoreBoardDAO leaderBoard = ScoreBoardDAO.withSnapshots();
+        ScoreBoardService service = new ScoreBoardService(leaderBoard);
+        ReplicationLeader leader = new ReplicationLeader(leaderBoard, transport);
+        service.addListener(leader);
+        ReplicationFollower early = new ReplicationFollower(transport);
+        early.start();
+        int mexico = service.startNewMatch("Mexico", "Canada");
+        int spain = service.startNewMatch("Spain", "Brazil");
+        service.updateScore(mexico, 0, 5);
+        //WHEN
+        ReplicationFollower late = new ReplicationFollower(transport);
+        late.start();
+        service.updateScore(spain, 10, 2);
+        service.finishMatch(mexico);
+        int germany = service.startNewMatch("Germany", "France");
+        //THEN
+        for (ReplicationFollower follower : List.of(early, late)) {
+            assertTrue(follower.awaitSequence(leader.getSequence(), Duration.ofSeconds(5)));
+            assertEquals(List.of(spain, germany), follower.getSummary().stream().map(Match::getId).toList());
+            assertEquals(12, follower.getSummary().get(0).getTotalScore());
+        }
+        assertEquals(6, early.getAppliedSequence());
+    }
+
+    @Test
+    void follower_should_skip_frames_and_score_updates_it_already_has() throws InterruptedException {
+        //GIVEN
+        InProcessReplicationTransport transport = new InProcessReplicationTransport(Runnable::run);
+        ScoreBoardDAO leaderBoard = ScoreBoardDAO.withSnapshots();
+        ReplicationLeader leader = new ReplicationLeader(leaderBoard, transport);
+        ReplicationFollower follower = new ReplicationFollower(transport);
+        follower.start();
+        Match match = Match.getNewMatch(1, "Mexico", "Canada");
+        Match oneGoal = Match.getNewMatch(match, 1, 0);
+        Match twoGoals = Match.getNewMatch(oneGoal, 2, 0);
+        leader.onMatchStarted(match);
+        leader.onScoreUpdated(match, oneGoal);
+        leader.onScoreUpdated(oneGoal, twoGoals);
+        //WHEN
+        leader.onScoreUpdated(match, oneGoal);
+        //THEN
+        assertTrue(follower.awaitSequence(4, Duration.ofSeconds(5)));
+        Match replicated = follower.getSummary().get(0);
+        assertEquals(2, replicated.getHomeTeamScore());
+        assertEquals(2, replicated.getVersion());
+    }
+
+    @Test
+    void transport_should_report_a_failing_subscriber_and_keep_delivering_to_it() {
+        //GIVEN
+        List<RuntimeException> failures = new ArrayList<>();
+        InProcessReplicationTransport transport = new InProcessReplicationTransport(Runnable::run, failures::add);
+        List<Long> received = new ArrayList<>();
+        transport.subscribe(frame -> {
+            long sequence = frame.getLong(0);
+            if (sequence == 1) {
+                throw new IllegalStateException("first frame");
+            }
+            received.add(sequence);
+        });
+        //WHEN
+        transport.publish(ByteBuffer.allocate(Long.BYTES).putLong(0, 1));
+        transport.publish(ByteBuffer.allocate(Long.BYTES).putLong(0, 2));
+        //THEN
+        assertEquals(1, failures.size());
+        assertEquals(1, transport.getFailedDeliveries());
+        assertEquals(List.of(2L), received);
+    }
+}
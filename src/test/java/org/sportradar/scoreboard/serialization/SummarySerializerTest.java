@@ -0,0 +1,82 @@
+package org.sportradar.scoreboard.serialization;
+
+import org.junit.jupiter.api.Test;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class SummarySerializerTest {
+
+    @Test
+    void writeJson_should_write_the_summary_in_order_with_escaped_names() throws IOException {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = new ScoreBoardDAO();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        int mexico = service.startNewMatch("Mexico", "Canada");
+        int quoted = service.startNewMatch("\"Reds\"", "Back\\slash\u0001");
+        service.updateScore(mexico, 0, 5);
+        SummarySerializer serializer = new SummarySerializer(scoreBoardDAO);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        //WHEN
+        serializer.writeJson(stream);
+        //THEN
+        assertEquals("[{\"id\":" + mexico + ",\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeScore\":0,"
+                     + "\"awayScore\":5},{\"id\":" + quoted + ",\"homeTeam\":\"\\\"Reds\\\"\","
+                     + "\"awayTeam\":\"Back\\\\slash\\u0001\",\"homeScore\":0,\"awayScore\":0}]",
+                stream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writeBinary_should_round_trip_a_large_board_through_a_stream_and_a_buffer() throws IOException {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = ScoreBoardDAO.withSnapshots();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        for (int i = 0; i < 10_000; i++) {
+            int id = service.startNewMatch("Home " + i, "Away " + i);
+            service.updateScore(id, i % 5, i % 3 + 1);
+        }
+        SummarySerializer serializer = new SummarySerializer(scoreBoardDAO);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        //WHEN
+        serializer.writeBinary(stream);
+        ByteBuffer buffer = ByteBuffer.allocate(stream.size());
+        serializer.writeBinary(buffer);
+        //THEN
+        assertArrayEquals(stream.toByteArray(), buffer.array());
+        List<Match> matches = SummarySerializer.readBinary(buffer.flip());
+        assertEquals(service.getSummary(), matches);
+        assertEquals(service.getSummary().get(0).getTotalScore(), matches.get(0).getTotalScore());
+        assertThrows(BufferOverflowException.class, () -> serializer.writeJson(ByteBuffer.allocate(100)));
+    }
+
+    @Test
+    void readBinary_should_Throw_IllegalArgumentException_when_the_summary_is_truncated() {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = new ScoreBoardDAO();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        service.startNewMatch("Mexico", "Canada");
+        service.startNewMatch("Spain", "Brazil");
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        new SummarySerializer(scoreBoardDAO).writeBinary(buffer);
+        buffer.flip();
+
+        //WHEN //THEN
+        for (int length = 0; length < buffer.limit(); length++) {
+            ByteBuffer truncated = buffer.duplicate().limit(length);
+            assertThrows(IllegalArgumentException.class, () -> SummarySerializer.readBinary(truncated));
+        }
+    }
+}
@@ -3,14 +3,33 @@ package org.sportradar.scoreboard.services;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Fixture;
 import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.ScoreUpdate;
+import org.sportradar.scoreboard.entities.SummaryDelta;
+import org.sportradar.scoreboard.entities.SummaryPage;
+import org.sportradar.scoreboard.entities.SummarySnapshot;
 import org.sportradar.scoreboard.entities.Team;
 import org.sportradar.scoreboard.exceptions.DuplicateMatchException;
 import org.sportradar.scoreboard.exceptions.MatchNotFoundException;
 import org.sportradar.scoreboard.exceptions.NotAllowedException;
+import org.sportradar.scoreboard.exceptions.ScoreBoardException;
+import org.sportradar.scoreboard.exceptions.VersionConflictException;
+import org.sportradar.scoreboard.metrics.JmxMetricsRegistry;
 
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -72,6 +91,219 @@ class ScoreBoardServiceTest {
                 () -> scoreBoardService.startNewMatch("USA", "Mexico"));
     }
 
+    @Test
+    void startNewMatch_should_ThrowDuplicateMatchException_When_team_names_differ_only_in_case() {
+        scoreBoardService.startNewMatch("Mexico", "USA");
+        assertThrows(DuplicateMatchException.class,
+                () -> scoreBoardService.startNewMatch("mexico", "usa"));
+        assertThrows(DuplicateMatchException.class,
+                () -> scoreBoardService.startNewMatch("usa", "MEXICO"));
+        assertEquals(1, scoreBoard.size());
+    }
+
+    @Test
+    void startNewMatch_should_keep_one_match_per_team_when_started_concurrently() throws InterruptedException {
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        int threads = 8;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    try {
+                        service.startNewMatch("Home" + i, "Away" + i);
+                    } catch (DuplicateMatchException | NotAllowedException ignored) {
+                        // another worker started this match first
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(200, service.getSummary().size());
+    }
+
+    @Test
+    void updateScore_should_never_move_scores_backwards_when_updated_concurrently() throws InterruptedException {
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        int id = service.startNewMatch("Mexico", "Canada");
+        int threads = 4;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers[t] = new Thread(() -> {
+                for (int goals = 1 + offset; goals <= 2_000; goals += threads) {
+                    service.tryUpdateScore(id, goals, 0);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(2_000, service.getSummary().get(0).getHomeTeamScore());
+    }
+
+    @Test
+    void listeners_should_be_told_about_changes_in_the_order_they_were_applied() throws InterruptedException {
+        //GIVEN
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        List<String> violations = new ArrayList<>();
+        int[] finished = {0};
+        service.addListener(new ScoreBoardListener() {
+            private Match last;
+
+            @Override
+            public void onMatchStarted(Match match) {
+                last = match;
+            }
+
+            @Override
+            public void onScoreUpdated(Match previous, Match updated) {
+                if (previous != last || updated.getVersion() != last.getVersion() + 1) {
+                    violations.add(previous.getVersion() + " after " + last.getVersion());
+                }
+                last = updated;
+            }
+
+            @Override
+            public void onMatchFinished(Match match) {
+                if (match != last) {
+                    violations.add("finished at " + match.getVersion() + " after " + last.getVersion());
+                }
+                finished[0]++;
+            }
+        });
+        int id = service.startNewMatch("Mexico", "Canada");
+        int threads = 4;
+        Thread[] workers = new Thread[threads];
+
+        //WHEN
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers[t] = new Thread(() -> {
+                for (int goals = 1 + offset; goals <= 2_000; goals += threads) {
+                    service.tryUpdateScore(id, goals, 0);
+                }
+                service.tryFinishMatch(id);
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        //THEN
+        assertEquals(List.of(), violations);
+        assertEquals(1, finished[0]);
+    }
+
+    @Test
+    void updateScore_should_not_wait_for_updates_of_other_matches_when_a_listener_is_attached() throws Exception {
+        for (ScoreBoardDAO dao : List.of(new ScoreBoardDAO(), ScoreBoardDAO.withSnapshots())) {
+            //GIVEN
+            ScoreBoardService service = new ScoreBoardService(dao);
+            int mexico = service.startNewMatch("Mexico", "Canada");
+            int spain = service.startNewMatch("Spain", "Brazil");
+            CountDownLatch bothNotified = new CountDownLatch(2);
+            service.addListener(new ScoreBoardListener() {
+                @Override
+                public void onScoreUpdated(Match previous, Match updated) {
+                    bothNotified.countDown();
+                    try {
+                        bothNotified.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            //WHEN
+            Future<?> mexicoUpdate = executor.submit(() -> service.updateScore(mexico, 1, 0));
+            Future<?> spainUpdate = executor.submit(() -> service.updateScore(spain, 0, 1));
+
+            //THEN
+            assertTrue(bothNotified.await(2, TimeUnit.SECONDS));
+            mexicoUpdate.get(5, TimeUnit.SECONDS);
+            spainUpdate.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void startNewMatch_should_not_wait_for_finishes_of_other_matches_when_a_listener_is_attached() throws Exception {
+        for (ScoreBoardDAO dao : List.of(new ScoreBoardDAO(), ScoreBoardDAO.withSnapshots())) {
+            //GIVEN
+            ScoreBoardService service = new ScoreBoardService(dao);
+            int spain = service.startNewMatch("Spain", "Brazil");
+            CountDownLatch bothNotified = new CountDownLatch(2);
+            service.addListener(new ScoreBoardListener() {
+                @Override
+                public void onMatchStarted(Match match) {
+                    awaitOther();
+                }
+
+                @Override
+                public void onMatchFinished(Match match) {
+                    awaitOther();
+                }
+
+                private void awaitOther() {
+                    bothNotified.countDown();
+                    try {
+                        bothNotified.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            //WHEN
+            Future<Integer> mexicoStart = executor.submit(() -> service.startNewMatch("Mexico", "Canada"));
+            Future<?> spainFinish = executor.submit(() -> service.finishMatch(spain));
+
+            //THEN
+            assertTrue(bothNotified.await(2, TimeUnit.SECONDS));
+            mexicoStart.get(5, TimeUnit.SECONDS);
+            spainFinish.get(5, TimeUnit.SECONDS);
+            assertEquals(List.of("Mexico"), service.getSummary().stream().map(match -> match.getHomeTeam().getName())
+                    .toList());
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void updateScore_should_Throw_VersionConflictException_when_match_changed_since_expected_version() {
+        //GIVEN
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        int id = service.startNewMatch("Mexico", "Canada");
+        int version = service.getSummary().get(0).getVersion();
+        service.updateScore(id, version, 1, 0);
+        //WHEN
+        CommandOutcome<Void> stale = service.tryUpdateScore(id, version, 0, 1);
+        //THEN
+        assertEquals(RejectionReason.VERSION_CONFLICT, ((CommandOutcome.Rejected<Void>) stale).reason());
+        assertThrows(VersionConflictException.class, () -> service.updateScore(id, version, 0, 1));
+        service.updateScore(id, version + 1, 1, 1);
+        assertEquals(2, service.getSummary().get(0).getTotalScore());
+        assertEquals(version + 2, service.getSummary().get(0).getVersion());
+    }
+
+    @Test
+    void tryUpdateScore_should_return_rejection_without_throwing_when_expected_version_is_negative() {
+        //GIVEN
+        int id = scoreBoardService.startNewMatch("Mexico", "Canada");
+        //WHEN
+        CommandOutcome<Void> outcome = scoreBoardService.tryUpdateScore(id, -1, 1, 0);
+        //THEN
+        assertEquals(RejectionReason.INVALID_VERSION, ((CommandOutcome.Rejected<Void>) outcome).reason());
+        assertThrows(IllegalArgumentException.class, () -> scoreBoardService.updateScore(id, -1, 1, 0));
+        assertEquals(0, scoreBoardDAO.findById(id).orElseThrow().getTotalScore());
+    }
+
     @Test
     void startNewMatch_should_Throw_InvalidInputException_when_HomeTeamName_is_nullOrEmpty() {
         int initialSize = scoreBoard.size();
@@ -125,6 +357,20 @@ class ScoreBoardServiceTest {
         assertEquals(2, match.getAwayTeam().getScore());
     }
 
+    @Test
+    void updateScore_should_expose_scores_without_copying_teams() {
+        int id = scoreBoardService.startNewMatch("Mexico", "USA");
+        scoreBoardService.updateScore(id, 3, 1);
+
+        Match match = scoreBoardDAO.findById(id).orElseThrow();
+        assertSame(match.getHomeTeam(), match.getHomeTeam());
+        assertEquals("Mexico", match.getHomeTeamName());
+        assertEquals("USA", match.getAwayTeamName());
+        assertEquals(3, match.getHomeTeamScore());
+        assertEquals(1, match.getAwayTeamScore());
+        assertEquals(4, match.getTotalScore());
+    }
+
     @Test
     void updateScore_should_Throw_IllegalArgumentException_when_id_Is_Null() {
         assertThrows(IllegalArgumentException.class,
@@ -177,6 +423,117 @@ class ScoreBoardServiceTest {
                 () -> scoreBoardService.updateScore(10, 5, 2));
     }
 
+    @Test
+    void startMatches_should_start_valid_fixtures_and_report_rejected_ones() {
+        //GIVEN
+        scoreBoardService.startNewMatch("Mexico", "Canada");
+
+        //WHEN
+        List<CommandOutcome<Integer>> outcomes = scoreBoardService.startMatches(List.of(
+                new Fixture("Spain", "Brazil"), new Fixture("canada", "Italy"), new Fixture("Brazil", "Spain"),
+                new Fixture("Germany", "France"), new Fixture(" ", "France"), new Fixture("Italy", "ITALY"),
+                new Fixture("France", "Uruguay"), new Fixture("Uruguay", "Italy")));
+
+        //THEN
+        assertTrue(outcomes.get(0).isAccepted());
+        assertEquals(RejectionReason.TEAM_ALREADY_PLAYING, reason(outcomes.get(1)));
+        assertEquals(RejectionReason.DUPLICATE_MATCH, reason(outcomes.get(2)));
+        assertTrue(outcomes.get(3).isAccepted());
+        assertEquals(RejectionReason.INVALID_TEAM_NAME, reason(outcomes.get(4)));
+        assertEquals(RejectionReason.SAME_TEAMS, reason(outcomes.get(5)));
+        assertEquals(RejectionReason.TEAM_ALREADY_PLAYING, reason(outcomes.get(6)));
+        assertTrue(outcomes.get(7).isAccepted());
+        int spainId = outcomes.get(0).orElseThrow();
+        assertEquals(List.of(spainId + 1, spainId + 2), List.of(outcomes.get(3).orElseThrow(),
+                outcomes.get(7).orElseThrow()));
+        assertEquals(4, scoreBoardDAO.count());
+        assertThrows(NotAllowedException.class, () -> outcomes.get(1).orElseThrow());
+    }
+
+    @Test
+    void startMatches_should_publish_one_snapshot_per_batch() {
+        //GIVEN
+        ScoreBoardService service = new ScoreBoardService(ScoreBoardDAO.withSnapshots());
+        long version = service.getSummarySnapshot().version();
+
+        //WHEN
+        List<CommandOutcome<Integer>> outcomes = service.startMatches(List.of(
+                new Fixture("Mexico", "Canada"), new Fixture("Spain", "Brazil")));
+
+        //THEN
+        assertEquals(version + 1, service.getSummarySnapshot().version());
+        assertEquals(List.of(outcomes.get(1).orElseThrow(), outcomes.get(0).orElseThrow()),
+                ids(service.getSummary()));
+    }
+
+    @Test
+    void updateScores_should_apply_valid_updates_and_report_rejected_ones() {
+        //GIVEN
+        int id1 = scoreBoardService.startNewMatch("Mexico", "Canada");
+        int id2 = scoreBoardService.startNewMatch("Spain", "Brazil");
+        scoreBoardService.updateScore(id2, 2, 2);
+        ScoreUpdate notFound = new ScoreUpdate(100, 1, 0);
+        ScoreUpdate lower = new ScoreUpdate(id2, 1, 2);
+        ScoreUpdate unchanged = new ScoreUpdate(id1, 1, 0);
+
+        //WHEN
+        BatchUpdateResult result = scoreBoardService.updateScores(List.of(
+                new ScoreUpdate(id1, 1, 0), notFound, lower, new ScoreUpdate(id2, 3, 2), unchanged,
+                new ScoreUpdate(id1, 1, 1)));
+
+        //THEN
+        assertEquals(3, result.applied());
+        assertEquals(3, result.failures().size());
+        assertEquals(notFound, result.failures().get(0).update());
+        assertInstanceOf(MatchNotFoundException.class, result.failures().get(0).error());
+        assertEquals(lower, result.failures().get(1).update());
+        assertInstanceOf(IllegalArgumentException.class, result.failures().get(1).error());
+        assertEquals(unchanged, result.failures().get(2).update());
+        assertInstanceOf(IllegalArgumentException.class, result.failures().get(2).error());
+        assertEquals(1, scoreBoardDAO.findById(id1).orElseThrow().getAwayTeamScore());
+        assertEquals(3, scoreBoardDAO.findById(id2).orElseThrow().getHomeTeamScore());
+        assertEquals(List.of(id2, id1), ids(scoreBoardService.getSummary()));
+    }
+
+    @Test
+    void updateScores_should_report_failures_in_input_order_when_a_match_changed_meanwhile() {
+        //GIVEN
+        ScoreBoardDAO racingDAO = new ScoreBoardDAO() {
+            @Override
+            public List<Match> compareAndSetAll(Collection<Match> matches, Consumer<Match> onReplaced) {
+                Match stored = findById(matches.iterator().next().getId()).orElseThrow();
+                compareAndSet(Match.getNewMatch(stored, 5, 0));
+                return super.compareAndSetAll(matches, onReplaced);
+            }
+        };
+        ScoreBoardService service = new ScoreBoardService(racingDAO);
+        int id = service.startNewMatch("Mexico", "Canada");
+        ScoreUpdate conflicting = new ScoreUpdate(id, 1, 0);
+        ScoreUpdate invalid = new ScoreUpdate(-1, 1, 0);
+
+        //WHEN
+        BatchUpdateResult result = service.updateScores(List.of(conflicting, invalid));
+
+        //THEN
+        assertEquals(0, result.applied());
+        assertEquals(List.of(conflicting, invalid),
+                result.failures().stream().map(BatchUpdateResult.Failure::update).toList());
+        assertInstanceOf(VersionConflictException.class, result.failures().get(0).error());
+    }
+
+    @Test
+    void updateScores_should_publish_one_snapshot_per_batch() {
+        ScoreBoardService service = new ScoreBoardService(ScoreBoardDAO.withSnapshots());
+        int id1 = service.startNewMatch("Mexico", "Canada");
+        int id2 = service.startNewMatch("Spain", "Brazil");
+        long version = service.getSummarySnapshot().version();
+
+        service.updateScores(List.of(new ScoreUpdate(id1, 1, 0), new ScoreUpdate(id2, 0, 2)));
+
+        assertEquals(version + 1, service.getSummarySnapshot().version());
+        assertEquals(List.of(id2, id1), ids(service.getSummary()));
+    }
+
     @Test
     void finishMatch_should_ThrowException_when_Match_does_notExist() {
         assertThrows(MatchNotFoundException.class,
@@ -261,6 +618,24 @@ class ScoreBoardServiceTest {
         assertEquals(scoreBoardDAO.findById(id3).get(), result.get(4));
     }
 
+    @Test
+    void getSummary_should_reorder_matches_when_scores_change_and_matches_finish() {
+        int id1 = scoreBoardService.startNewMatch("Mexico", "Canada");
+        int id2 = scoreBoardService.startNewMatch("Spain", "Brazil");
+        int id3 = scoreBoardService.startNewMatch("Germany", "France");
+        assertEquals(List.of(id3, id2, id1), ids(scoreBoardService.getSummary()));
+
+        scoreBoardService.updateScore(id1, 1, 0);
+        assertEquals(List.of(id1, id3, id2), ids(scoreBoardService.getSummary()));
+
+        scoreBoardService.updateScore(id2, 1, 1);
+        scoreBoardService.updateScore(id3, 0, 1);
+        assertEquals(List.of(id2, id3, id1), ids(scoreBoardService.getSummary()));
+
+        scoreBoardService.finishMatch(id3);
+        assertEquals(List.of(id2, id1), ids(scoreBoardService.getSummary()));
+    }
+
     @Test
     void getSummary_should_return_Immutable_list() {
         //GIVEN
@@ -271,4 +646,286 @@ class ScoreBoardServiceTest {
         assertThrows(UnsupportedOperationException.class, () -> result.remove(1));
         assertThrows(UnsupportedOperationException.class, () -> result.add(Match.getNewMatch("USA", "France")));
     }
+
+    @Test
+    void getSummarySnapshot_should_publish_a_new_version_only_on_accepted_writes() {
+        ScoreBoardService service = new ScoreBoardService(ScoreBoardDAO.withSnapshots());
+        SummarySnapshot empty = service.getSummarySnapshot();
+        assertEquals(0, empty.version());
+
+        int id = service.startNewMatch("Mexico", "Canada");
+        SummarySnapshot started = service.getSummarySnapshot();
+        assertEquals(1, started.version());
+        assertSame(started, service.getSummarySnapshot());
+        assertSame(started.matches(), service.getSummary());
+
+        assertThrows(DuplicateMatchException.class, () -> service.startNewMatch("Mexico", "Canada"));
+        assertSame(started, service.getSummarySnapshot());
+
+        service.updateScore(id, 1, 0);
+        SummarySnapshot updated = service.getSummarySnapshot();
+        assertEquals(2, updated.version());
+        assertEquals(0, started.matches().get(0).getHomeTeam().getScore());
+        assertEquals(1, updated.matches().get(0).getHomeTeam().getScore());
+
+        service.finishMatch(id);
+        assertEquals(3, service.getSummarySnapshot().version());
+        assertTrue(service.getSummary().isEmpty());
+    }
+
+    @Test
+    void eventLoop_should_apply_commands_in_order_and_complete_rejections_exceptionally() throws Exception {
+        try (ScoreBoardEventLoop eventLoop = new ScoreBoardEventLoop(scoreBoardService)) {
+            CompletableFuture<Integer> started = eventLoop.startNewMatch("Mexico", "USA");
+            CompletableFuture<Integer> duplicate = eventLoop.startNewMatch("USA", "Mexico");
+            int id = started.get(5, TimeUnit.SECONDS);
+            eventLoop.updateScore(id, 1, 0).get(5, TimeUnit.SECONDS);
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> duplicate.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(DuplicateMatchException.class, error.getCause());
+            assertEquals(1, eventLoop.getSummary().get(0).getHomeTeamScore());
+
+            eventLoop.finishMatch(id).get(5, TimeUnit.SECONDS);
+            assertTrue(eventLoop.getSummary().isEmpty());
+        }
+    }
+
+    @Test
+    void eventLoop_should_complete_a_command_exceptionally_and_keep_applying_commands_when_it_throws_an_error()
+            throws Exception {
+        //GIVEN
+        scoreBoardService.addListener(new ScoreBoardListener() {
+            @Override
+            public void onMatchStarted(Match match) {
+                if (match.getHomeTeam().getName().equals("Mexico")) {
+                    throw new AssertionError("Listener failure");
+                }
+            }
+        });
+        try (ScoreBoardEventLoop eventLoop = new ScoreBoardEventLoop(scoreBoardService)) {
+            //WHEN
+            CompletableFuture<Integer> failed = eventLoop.startNewMatch("Mexico", "USA");
+            CompletableFuture<Integer> started = eventLoop.startNewMatch("Spain", "Brazil");
+
+            //THEN
+            ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, error.getCause());
+            assertNotNull(started.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void eventLoop_close_should_apply_enqueued_commands_without_interrupting_listeners() throws Exception {
+        //GIVEN
+        List<Boolean> interrupted = new ArrayList<>();
+        scoreBoardService.addListener(new ScoreBoardListener() {
+            @Override
+            public void onMatchStarted(Match match) {
+                interrupted.add(Thread.currentThread().isInterrupted());
+            }
+        });
+        ScoreBoardEventLoop eventLoop = new ScoreBoardEventLoop(scoreBoardService);
+        List<CompletableFuture<Integer>> started = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            started.add(eventLoop.startNewMatch("Home" + i, "Away" + i));
+        }
+
+        //WHEN
+        eventLoop.close();
+
+        //THEN
+        for (CompletableFuture<Integer> future : started) {
+            assertTrue(future.isDone() && !future.isCompletedExceptionally());
+        }
+        assertEquals(100, interrupted.size());
+        assertFalse(interrupted.contains(true));
+        assertTrue(eventLoop.startNewMatch("Spain", "Brazil").isCompletedExceptionally());
+    }
+
+    @Test
+    void asyncService_should_keep_the_order_of_commands_of_a_match_while_many_are_in_flight() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AsyncScoreBoardService async = new AsyncScoreBoardService(scoreBoardService, executor, 8);
+            int id = async.startNewMatch("Mexico", "USA").toCompletableFuture().get(5, TimeUnit.SECONDS);
+            List<CompletableFuture<Void>> updates = new ArrayList<>();
+            for (int goals = 1; goals <= 100; goals++) {
+                updates.add(async.updateScore(id, goals, 0).toCompletableFuture());
+            }
+            CompletableFuture<Void> finished = async.finishMatch(id).toCompletableFuture();
+            CompletableFuture<Void> late = async.updateScore(id, 101, 0).toCompletableFuture();
+
+            CompletableFuture.allOf(updates.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+            finished.get(5, TimeUnit.SECONDS);
+            ExecutionException error = assertThrows(ExecutionException.class, () -> late.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(MatchNotFoundException.class, error.getCause());
+            assertTrue(async.getSummary().toCompletableFuture().isDone());
+            assertTrue(async.getSummary().toCompletableFuture().get().isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void metrics_should_count_operations_rejections_and_live_matches() throws Exception {
+        try (JmxMetricsRegistry metrics = new JmxMetricsRegistry(ManagementFactory.getPlatformMBeanServer(), "scoreboard.test")) {
+            ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO(), metrics);
+            int id = service.startNewMatch("Mexico", "USA");
+            assertThrows(DuplicateMatchException.class, () -> service.startNewMatch("Mexico", "USA"));
+            assertThrows(NotAllowedException.class, () -> service.startNewMatch("Mexico", "France"));
+            service.updateScore(id, 1, 0);
+            assertThrows(MatchNotFoundException.class, () -> service.updateScore(100, 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> service.updateScore(id, 0, 0));
+            service.getSummary();
+
+            assertEquals(3, metrics.timer("scoreboard.start").getCount());
+            assertEquals(3, metrics.timer("scoreboard.update").getCount());
+            assertEquals(1, metrics.timer("scoreboard.summary").getCount());
+            assertEquals(1, metrics.getCount("scoreboard.rejected.duplicate_match"));
+            assertEquals(1, metrics.getCount("scoreboard.rejected.not_allowed"));
+            assertEquals(1, metrics.getCount("scoreboard.rejected.match_not_found"));
+            assertEquals(1, metrics.getCount("scoreboard.rejected.invalid_argument"));
+            assertEquals(1, metrics.getGauge("scoreboard.live_matches"));
+
+            service.finishMatch(id);
+            ObjectName liveMatches = new ObjectName("scoreboard.test:type=Gauge,name=\"scoreboard.live_matches\"");
+            assertEquals(0L, ManagementFactory.getPlatformMBeanServer().getAttribute(liveMatches, "Value"));
+        }
+    }
+
+    @Test
+    void tryStartNewMatch_should_return_rejection_without_throwing_when_team_is_playing() {
+        //GIVEN
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        int id = service.startNewMatch("Mexico", "USA");
+        //WHEN
+        CommandOutcome<Integer> outcome = service.tryStartNewMatch("Mexico", "France");
+        //THEN
+        assertFalse(outcome.isAccepted());
+        assertEquals(RejectionReason.TEAM_ALREADY_PLAYING, ((CommandOutcome.Rejected<Integer>) outcome).reason());
+        assertThrows(NotAllowedException.class, outcome::orElseThrow);
+        assertEquals(id + 1, service.tryStartNewMatch("Spain", "France").orElseThrow());
+        assertEquals(RejectionReason.MATCH_NOT_FOUND,
+                ((CommandOutcome.Rejected<Void>) service.tryFinishMatch(100)).reason());
+    }
+
+    @Test
+    void exceptions_should_skip_stack_trace_when_stack_traces_are_disabled() {
+        //GIVEN
+        ScoreBoardService service = new ScoreBoardService(new ScoreBoardDAO());
+        ScoreBoardException.setStackTraceEnabled(false);
+        try {
+            //WHEN
+            MatchNotFoundException exception =
+                    assertThrows(MatchNotFoundException.class, () -> service.finishMatch(100));
+            //THEN
+            assertEquals(0, exception.getStackTrace().length);
+            assertTrue(exception.getMessage().contains("100"));
+        } finally {
+            ScoreBoardException.setStackTraceEnabled(true);
+        }
+    }
+
+    @Test
+    void getTopMatches_should_return_the_head_of_the_summary() {
+        for (ScoreBoardDAO dao : List.of(new ScoreBoardDAO(), ScoreBoardDAO.withSnapshots())) {
+            //GIVEN
+            ScoreBoardService service = new ScoreBoardService(dao);
+            int mexico = service.startNewMatch("Mexico", "Canada");
+            int spain = service.startNewMatch("Spain", "Brazil");
+            int germany = service.startNewMatch("Germany", "France");
+            service.updateScore(spain, 2, 1);
+            //WHEN
+            List<Match> top = service.getTopMatches(2);
+            //THEN
+            assertEquals(List.of(spain, germany), ids(top));
+            assertEquals(List.of(spain, germany, mexico), ids(service.getTopMatches(10)));
+            assertThrows(IllegalArgumentException.class, () -> service.getTopMatches(0));
+        }
+    }
+
+    @Test
+    void getSummaryPage_should_not_repeat_or_skip_unchanged_matches_when_scores_change_between_pages() {
+        for (ScoreBoardDAO dao : List.of(new ScoreBoardDAO(), ScoreBoardDAO.withSnapshots())) {
+            //GIVEN
+            ScoreBoardService service = new ScoreBoardService(dao);
+            List<Integer> started = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                started.add(service.startNewMatch("Home " + i, "Away " + i));
+            }
+            SummaryPage first = service.getSummaryPage(null, 2);
+            //WHEN
+            service.updateScore(started.get(0), 1, 0);
+            SummaryPage second = service.getSummaryPage(first.nextCursor(), 2);
+            //THEN
+            assertEquals(List.of(started.get(4), started.get(3)), ids(first.matches()));
+            assertEquals(List.of(started.get(2), started.get(1)), ids(second.matches()));
+            assertTrue(first.hasNext());
+            assertFalse(second.hasNext());
+            assertEquals(started.get(0), service.getSummaryPage(null, 1).matches().get(0).getId());
+        }
+    }
+
+    @Test
+    void getSummaryPage_should_return_the_whole_summary_when_size_is_max_int() {
+        for (ScoreBoardDAO dao : List.of(new ScoreBoardDAO(), ScoreBoardDAO.withSnapshots())) {
+            //GIVEN
+            ScoreBoardService service = new ScoreBoardService(dao);
+            int mexico = service.startNewMatch("Mexico", "Canada");
+            int spain = service.startNewMatch("Spain", "Brazil");
+            //WHEN
+            SummaryPage page = service.getSummaryPage(null, Integer.MAX_VALUE);
+            //THEN
+            assertEquals(List.of(spain, mexico), ids(page.matches()));
+            assertFalse(page.hasNext());
+        }
+    }
+
+    @Test
+    void getSummaryDelta_should_return_only_changed_matches_since_a_version() {
+        //GIVEN
+        ScoreBoardService service = new ScoreBoardService(ScoreBoardDAO.withSnapshots());
+        int mexico = service.startNewMatch("Mexico", "Canada");
+        int spain = service.startNewMatch("Spain", "Brazil");
+        int germany = service.startNewMatch("Germany", "France");
+        long clientVersion = service.getSummarySnapshot().version();
+        //WHEN
+        service.updateScore(mexico, 1, 0);
+        service.updateScore(mexico, 2, 0);
+        service.finishMatch(spain);
+        SummaryDelta delta = service.getSummaryDelta(clientVersion);
+        //THEN
+        assertFalse(delta.full());
+        assertEquals(clientVersion + 3, delta.version());
+        assertEquals(List.of(mexico), ids(delta.changedMatches()));
+        assertEquals(2, delta.changedMatches().get(0).getHomeTeamScore());
+        assertEquals(List.of(spain), delta.removedMatchIds());
+        assertTrue(service.getSummaryDelta(delta.version()).changedMatches().isEmpty());
+        assertEquals(List.of(mexico, germany), ids(service.getSummaryDelta(clientVersion + 100).changedMatches()));
+    }
+
+    @Test
+    void getSummaryDelta_should_fall_back_to_full_summary_when_version_is_no_longer_logged() {
+        //GIVEN
+        ScoreBoardService service = new ScoreBoardService(ScoreBoardDAO.withSnapshots());
+        int id = service.startNewMatch("Mexico", "Canada");
+        for (int goals = 1; goals <= 5_000; goals++) {
+            service.updateScore(id, goals, 0);
+        }
+        //WHEN
+        SummaryDelta delta = service.getSummaryDelta(1);
+        //THEN
+        assertTrue(delta.full());
+        assertEquals(List.of(id), ids(delta.changedMatches()));
+        assertTrue(new ScoreBoardService(new ScoreBoardDAO()).getSummaryDelta(0).full());
+    }
+
+    private static List<Integer> ids(List<Match> matches) {
+        return matches.stream().map(Match::getId).toList();
+    }
+
+    private static RejectionReason reason(CommandOutcome<?> outcome) {
+        assertInstanceOf(CommandOutcome.Rejected.class, outcome);
+        return ((CommandOutcome.Rejected<?>) outcome).reason();
+    }
 }
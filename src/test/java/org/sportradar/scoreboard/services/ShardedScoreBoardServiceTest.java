@@ -0,0 +1,112 @@
+package org.sportradar.scoreboard.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.CompetitionMatch;
+import org.sportradar.scoreboard.exceptions.MatchNotFoundException;
+import org.sportradar.scoreboard.exceptions.NotAllowedException;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class ShardedScoreBoardServiceTest {
+
+    private ShardedScoreBoardService scoreBoards;
+
+    @BeforeEach
+    void init() {
+        scoreBoards = new ShardedScoreBoardService(4, ScoreBoardDAO::new);
+    }
+
+    @Test
+    void startNewMatch_should_allocate_ids_per_competition() {
+        int worldCupId = scoreBoards.startNewMatch("World Cup", "Mexico", "USA");
+        int copaId = scoreBoards.startNewMatch("Copa America", "Mexico", "USA");
+
+        assertEquals(1, worldCupId);
+        assertEquals(1, copaId);
+        assertEquals(1, scoreBoards.getSummary("World Cup").size());
+        assertEquals(1, scoreBoards.getSummary("Copa America").size());
+    }
+
+    @Test
+    void startNewMatch_should_keep_one_match_per_team_within_a_competition() {
+        scoreBoards.startNewMatch("World Cup", "Mexico", "USA");
+        assertThrows(NotAllowedException.class,
+                () -> scoreBoards.startNewMatch("World Cup", "Mexico", "France"));
+    }
+
+    @Test
+    void startNewMatch_should_not_create_a_board_when_the_first_start_is_rejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> scoreBoards.startNewMatch("Euro", "Italy", " "));
+        assertThrows(IllegalArgumentException.class,
+                () -> scoreBoards.startNewMatch("Euro", "Italy", "ITALY"));
+
+        assertTrue(scoreBoards.getCompetitions().isEmpty());
+        assertEquals(1, scoreBoards.startNewMatch("Euro", "Italy", "England"));
+        assertEquals(Set.of("Euro"), scoreBoards.getCompetitions());
+    }
+
+    @Test
+    void updateScore_should_ThrowMatchNotFoundException_when_competition_does_notExist() {
+        assertThrows(MatchNotFoundException.class,
+                () -> scoreBoards.updateScore("Euro", 1, 1, 0));
+        assertThrows(MatchNotFoundException.class,
+                () -> scoreBoards.finishMatch("Euro", 1));
+    }
+
+    @Test
+    void startNewMatch_should_Throw_IllegalArgumentException_when_competition_is_blank() {
+        assertThrows(IllegalArgumentException.class,
+                () -> scoreBoards.startNewMatch(" ", "Mexico", "USA"));
+    }
+
+    @Test
+    void getGlobalSummary_should_merge_competitions_in_summary_order() {
+        //GIVEN
+        int wc1 = scoreBoards.startNewMatch("World Cup", "Mexico", "Canada");
+        scoreBoards.updateScore("World Cup", wc1, 0, 5);
+        int wc2 = scoreBoards.startNewMatch("World Cup", "Spain", "Brazil");
+        scoreBoards.updateScore("World Cup", wc2, 1, 1);
+        int ca1 = scoreBoards.startNewMatch("Copa America", "Chile", "Peru");
+        scoreBoards.updateScore("Copa America", ca1, 3, 3);
+        int ca2 = scoreBoards.startNewMatch("Copa America", "Uruguay", "Colombia");
+        scoreBoards.updateScore("Copa America", ca2, 1, 1);
+        scoreBoards.startNewMatch("Euro", "Italy", "England");
+        int euro2 = scoreBoards.startNewMatch("Euro", "Germany", "Spain");
+        scoreBoards.finishMatch("Euro", euro2);
+
+        //WHEN
+        List<CompetitionMatch> summary = scoreBoards.getGlobalSummary();
+
+        //THEN
+        assertEquals(List.of("Chile", "Mexico", "Uruguay", "Spain", "Italy"),
+                summary.stream().map(m -> m.match().getHomeTeamName()).toList());
+        assertEquals(List.of("Copa America", "World Cup", "Copa America", "World Cup", "Euro"),
+                summary.stream().map(CompetitionMatch::competition).toList());
+    }
+
+    @Test
+    void getGlobalSummary_should_order_ties_between_competitions_by_competition_key() {
+        //GIVEN
+        scoreBoards.startNewMatch("World Cup", "Mexico", "Canada");
+        scoreBoards.startNewMatch("World Cup", "Spain", "Brazil");
+        scoreBoards.startNewMatch("World Cup", "Germany", "France");
+        scoreBoards.startNewMatch("Copa America", "Chile", "Peru");
+
+        //WHEN
+        List<CompetitionMatch> summary = scoreBoards.getGlobalSummary();
+
+        //THEN
+        assertEquals(List.of("Chile", "Germany", "Spain", "Mexico"),
+                summary.stream().map(m -> m.match().getHomeTeamName()).toList());
+    }
+}
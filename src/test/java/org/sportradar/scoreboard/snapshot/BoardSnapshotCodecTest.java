@@ -0,0 +1,124 @@
+package org.sportradar.scoreboard.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.sportradar.scoreboard.ScoreBoardDAO;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.services.ScoreBoardService;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class BoardSnapshotCodecTest {
+
+    @Test
+    void restore_should_rebuild_matches_scores_start_order_and_id_counter() {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = ScoreBoardDAO.withSnapshots();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        int id1 = service.startNewMatch("Mexico", "Canada");
+        int id2 = service.startNewMatch("Spain", "Brazil");
+        int id3 = service.startNewMatch("C\u00f4te d'Ivoire", "T\u00fcrkiye");
+        service.updateScore(id2, 10, 2);
+        service.updateScore(id3, 1, 0);
+        service.updateScore(id3, 1, 1);
+        service.finishMatch(service.startNewMatch("Germany", "France"));
+        ByteBuffer direct = ByteBuffer.allocateDirect(4096);
+        BoardSnapshotCodec.encode(scoreBoardDAO, direct);
+        direct.flip();
+
+        //WHEN
+        ScoreBoardDAO restoredDAO = new ScoreBoardDAO();
+        BoardSnapshot snapshot = BoardSnapshotCodec.restore(direct, restoredDAO);
+
+        //THEN
+        assertFalse(direct.hasRemaining());
+        assertEquals(scoreBoardDAO.getVersion(), snapshot.boardVersion());
+        assertEquals(4, snapshot.lastMatchId());
+        assertEquals(List.of(id1, id2, id3), snapshot.matches().stream().map(Match::getId).toList());
+        assertEquals(scoreBoardDAO.findByAll(), restoredDAO.findByAll());
+        Match restored = restoredDAO.findById(id3).orElseThrow();
+        assertEquals("C\u00f4te d'Ivoire", restored.getHomeTeamName());
+        assertEquals(1, restored.getAwayTeamScore());
+        assertEquals(2, restored.getVersion());
+        assertEquals(5, new ScoreBoardService(restoredDAO).startNewMatch("Germany", "France"));
+    }
+
+    @Test
+    void encode_should_handle_large_boards() {
+        ScoreBoardDAO scoreBoardDAO = new ScoreBoardDAO();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        for (int i = 0; i < 100_000; i++) {
+            service.startNewMatch("Home" + i, "Away" + i);
+        }
+
+        ByteBuffer encoded = BoardSnapshotCodec.encode(scoreBoardDAO);
+        BoardSnapshot snapshot = BoardSnapshotCodec.decode(encoded);
+
+        assertEquals(100_000, snapshot.matches().size());
+        assertEquals("Home99999", snapshot.matches().get(99_999).getHomeTeamName());
+    }
+
+    @Test
+    void decode_should_Throw_IllegalArgumentException_when_buffer_is_not_a_snapshot() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSnapshotCodec.decode(ByteBuffer.wrap(new byte[64])));
+        ByteBuffer futureVersion = ByteBuffer.allocate(64).putInt(BoardSnapshotCodec.MAGIC).putShort((short) 99);
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSnapshotCodec.decode(futureVersion.flip().limit(64)));
+    }
+
+    @Test
+    void decode_should_Throw_IllegalArgumentException_when_snapshot_is_truncated() {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = new ScoreBoardDAO();
+        ScoreBoardService service = new ScoreBoardService(scoreBoardDAO);
+        service.startNewMatch("Mexico", "Canada");
+        service.startNewMatch("Spain", "Brazil");
+        ByteBuffer encoded = BoardSnapshotCodec.encode(scoreBoardDAO);
+
+        //WHEN //THEN
+        for (int length = 0; length < encoded.limit(); length++) {
+            ByteBuffer truncated = encoded.duplicate().limit(length);
+            assertThrows(IllegalArgumentException.class, () -> BoardSnapshotCodec.decode(truncated));
+        }
+    }
+
+    @Test
+    void decode_should_Throw_IllegalArgumentException_when_counts_lengths_or_indexes_are_corrupted() {
+        //GIVEN
+        ScoreBoardDAO scoreBoardDAO = new ScoreBoardDAO();
+        new ScoreBoardService(scoreBoardDAO).startNewMatch("Mexico", "Canada");
+        ByteBuffer encoded = BoardSnapshotCodec.encode(scoreBoardDAO);
+        int nameCountOffset = 18;
+        int firstNameLengthOffset = nameCountOffset + Integer.BYTES;
+        int matchCountOffset = encoded.limit() - 6 * Integer.BYTES - Integer.BYTES;
+        int homeIndexOffset = matchCountOffset + 2 * Integer.BYTES;
+
+        //WHEN //THEN
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSnapshotCodec.decode(corrupt(encoded, nameCountOffset, -1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSnapshotCodec.decode(corrupt(encoded, nameCountOffset, Integer.MAX_VALUE)));
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSnapshotCodec.decode(corrupt(encoded, firstNameLengthOffset, 0xFFFF_0000)));
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSnapshotCodec.decode(corrupt(encoded, matchCountOffset, -1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSnapshotCodec.decode(corrupt(encoded, matchCountOffset, 1_000_000)));
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSnapshotCodec.decode(corrupt(encoded, homeIndexOffset, 99)));
+        assertThrows(IllegalArgumentException.class,
+                () -> BoardSnapshotCodec.decode(corrupt(encoded, homeIndexOffset, -1)));
+    }
+
+    private static ByteBuffer corrupt(ByteBuffer encoded, int offset, int value) {
+        ByteBuffer copy = ByteBuffer.allocate(encoded.limit()).put(encoded.duplicate()).flip();
+        return copy.putInt(offset, value);
+    }
+}
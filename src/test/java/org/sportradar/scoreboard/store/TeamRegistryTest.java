@@ -0,0 +1,93 @@
+package org.sportradar.scoreboard.store;
+
+import org.junit.jupiter.api.Test;
+import org.sportradar.scoreboard.entities.Match;
+import org.sportradar.scoreboard.entities.Team;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author hesam.karimian
+ * @created 18/10/2026
+ */
+class TeamRegistryTest {
+
+    @Test
+    void acquire_should_give_one_id_per_canonical_name() {
+        //GIVEN
+        TeamRegistry registry = new TeamRegistry(16);
+        //WHEN
+        int mexico = registry.acquire(Team.canonicalName("Mexico"));
+        //THEN
+        assertEquals(mexico, registry.acquire(Team.canonicalName("MEXICO")));
+        assertEquals(mexico, registry.find("mexico"));
+        assertNotEquals(mexico, registry.acquire("canada"));
+        assertEquals(TeamRegistry.NO_TEAM, registry.find("spain"));
+    }
+
+    @Test
+    void acquire_should_evict_idle_teams_but_keep_playing_ones_when_over_capacity() {
+        //GIVEN
+        TeamRegistry registry = new TeamRegistry(8);
+        int playing = registry.acquire("playing");
+        int idle = registry.acquire("idle");
+        registry.release("idle");
+        //WHEN
+        for (int i = 0; i < 8; i++) {
+            registry.acquire("team " + i);
+            registry.release("team " + i);
+        }
+        //THEN
+        assertTrue(registry.size() <= 9);
+        assertEquals(playing, registry.find("playing"));
+        assertEquals(TeamRegistry.NO_TEAM, registry.find("idle"));
+        assertNotEquals(idle, registry.acquire("idle"));
+    }
+
+    @Test
+    void team_should_carry_the_shared_id_of_its_canonical_name() {
+        //GIVEN
+        Team mexico = new Team("Mexico");
+        //WHEN
+        Team sameTeam = new Team("MEXICO", 3);
+        //THEN
+        assertEquals(mexico.id(), sameTeam.id());
+        assertEquals(mexico.id(), mexico.withScore(2).id());
+        assertEquals(mexico.id(), TeamRegistry.shared().find("mexico"));
+        assertNotEquals(mexico.id(), new Team("Canada").id());
+        assertEquals(mexico, sameTeam);
+    }
+
+    @Test
+    void acquire_should_register_an_evicted_team_again_under_the_id_it_was_given() {
+        //GIVEN
+        TeamRegistry registry = new TeamRegistry(8);
+        int idle = registry.register("idle");
+        for (int i = 0; i < 8; i++) {
+            registry.register("team " + i);
+        }
+        assertEquals(TeamRegistry.NO_TEAM, registry.find("idle"));
+        //WHEN
+        int acquired = registry.acquire("idle", idle);
+        //THEN
+        assertEquals(idle, acquired);
+        assertEquals(idle, registry.find("idle"));
+    }
+
+    @Test
+    void matchStore_should_find_teams_case_insensitively_and_release_them_when_match_is_removed() {
+        //GIVEN
+        MatchStore store = new MatchStore();
+        Match match = Match.getNewMatch(1, "Mexico", "Canada");
+        store.insert(match);
+        //WHEN
+        boolean duplicate = store.insert(Match.getNewMatch(2, "mexico", "Spain"));
+        store.remove(match);
+        //THEN
+        assertFalse(duplicate);
+        assertTrue(store.findByTeam("canada").isEmpty());
+        assertTrue(store.insert(Match.getNewMatch(3, "MEXICO", "Spain")));
+        assertEquals(3, store.findByPair("mexico", "spain").orElseThrow().getId());
+        assertEquals(new Team("Mexico"), new Team("MEXICO", 2));
+    }
+}